@@ -0,0 +1,72 @@
+package com.contactBox.benchmarks;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.dataTransferObjects.requests.UpdateContactRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.contactBox.utilities.PhoneNumbers.DEFAULT_COUNTRY_CODE;
+import static com.contactBox.utilities.PhoneNumbers.canonicalize;
+
+public class BenchmarkContacts {
+
+    private static final String[] FIRST_NAMES = {"jane", "janet", "jessica", "john", "peter", "paul", "mary", "ada", "tobi", "chioma"};
+    private static final String[] LAST_NAMES = {"doe", "smith", "okafor", "adeyemi", "johnson", "brown", "eze", "bello"};
+
+    public static List<Contact> contacts(int contactCount) {
+        List<Contact> contacts = new ArrayList<>(contactCount);
+        for (int count = 0; count < contactCount; count++) {
+            Contact contact = new Contact();
+            contact.setId(contactId(count));
+            contact.setFirstName(FIRST_NAMES[count % FIRST_NAMES.length] + count);
+            contact.setLastName(LAST_NAMES[count % LAST_NAMES.length]);
+            contact.setPhoneNumber(phoneNumber(count));
+            contact.setCanonicalPhoneNumber(canonicalize(contact.getPhoneNumber(), DEFAULT_COUNTRY_CODE));
+            contacts.add(contact);
+        }
+        return contacts;
+    }
+
+    public static User user(int contactCount) {
+        User user = new User();
+        user.setId(contactId(Integer.MAX_VALUE));
+        user.setUsername("jane123");
+        user.setContacts(contacts(contactCount));
+        return user;
+    }
+
+    public static String contactId(int count) {
+        return String.format("%024x", count);
+    }
+
+    public static String phoneNumber(int count) {
+        return String.format("+234 (80) %04d-%04d", count / 10_000 % 10_000, count % 10_000);
+    }
+
+    public static CreateContactRequest createContactRequest() {
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setFirstName("  Jane ");
+        createContactRequest.setLastName("Doe");
+        createContactRequest.setPhoneNumber("+234 (803) 123-4567");
+        createContactRequest.setEmail("jane@doe.com");
+        createContactRequest.setBuildingNumber("12");
+        createContactRequest.setStreet("Herbert Macaulay Way");
+        createContactRequest.setCity("Yaba");
+        createContactRequest.setState("Lagos");
+        createContactRequest.setCountry("Nigeria");
+        createContactRequest.setNotes("met at the conference");
+        return createContactRequest;
+    }
+
+    public static UpdateContactRequest updateContactRequest() {
+        UpdateContactRequest updateContactRequest = new UpdateContactRequest();
+        updateContactRequest.setFirstName("Janet");
+        updateContactRequest.setPhoneNumber("0803 765 4321");
+        updateContactRequest.setCity("Ikeja");
+        updateContactRequest.setNotes("moved offices");
+        return updateContactRequest;
+    }
+}
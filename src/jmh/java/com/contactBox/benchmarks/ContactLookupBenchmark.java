@@ -0,0 +1,56 @@
+package com.contactBox.benchmarks;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.contactBox.utilities.FindContact.findContactInUserList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ContactLookupBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    private int contactCount;
+
+    private User user;
+    private List<Contact> contacts;
+    private String[] contactIds;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkContacts.user(contactCount);
+        contacts = new ArrayList<>(user.getContacts());
+        contactIds = new String[contactCount];
+        for (int count = 0; count < contactCount; count++) {
+            contactIds[count] = contacts.get(count).getId();
+        }
+    }
+
+    @Benchmark
+    public Contact indexedLookup() {
+        return findContactInUserList(randomContactId(), user);
+    }
+
+    @Benchmark
+    public Contact linearScanLookup() {
+        String contactId = randomContactId();
+        for (int count = 0; count < contacts.size(); count++) {
+            if (contacts.get(count).getId().equals(contactId)) return contacts.get(count);
+        }
+        return null;
+    }
+
+    private String randomContactId() {
+        return contactIds[ThreadLocalRandom.current().nextInt(contactCount)];
+    }
+}
@@ -0,0 +1,76 @@
+package com.contactBox.benchmarks;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.dataTransferObjects.requests.FindContactByNameRequest;
+import com.contactBox.dataTransferObjects.requests.FindContactByPhoneNumberRequest;
+import com.contactBox.services.ContactServiceImplementation;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.contactBox.utilities.PhoneNumbers.DEFAULT_COUNTRY_CODE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ContactSearchBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int contactCount;
+
+    private final ContactServiceImplementation contactService = new ContactServiceImplementation();
+    private User user;
+    private FindContactByNameRequest[] nameRequests;
+    private FindContactByPhoneNumberRequest[] phoneNumberRequests;
+    private FindContactByPhoneNumberRequest[] suffixRequests;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(contactService, "phoneNumberCanonicalizer", new PhoneNumberCanonicalizer(DEFAULT_COUNTRY_CODE));
+        user = BenchmarkContacts.user(contactCount);
+        int requestCount = Math.min(contactCount, 1024);
+        nameRequests = new FindContactByNameRequest[requestCount];
+        phoneNumberRequests = new FindContactByPhoneNumberRequest[requestCount];
+        suffixRequests = new FindContactByPhoneNumberRequest[requestCount];
+        for (int count = 0; count < requestCount; count++) {
+            Contact contact = user.getContacts().get(ThreadLocalRandom.current().nextInt(contactCount));
+            nameRequests[count] = new FindContactByNameRequest();
+            nameRequests[count].setName(contact.getFirstName().substring(0, 4));
+            nameRequests[count].setLimit(20);
+            phoneNumberRequests[count] = new FindContactByPhoneNumberRequest();
+            phoneNumberRequests[count].setPhoneNumber(contact.getPhoneNumber());
+            suffixRequests[count] = new FindContactByPhoneNumberRequest();
+            suffixRequests[count].setPhoneNumber(contact.getCanonicalPhoneNumber().substring(contact.getCanonicalPhoneNumber().length() - 7));
+            suffixRequests[count].setSuffixMatch(true);
+        }
+        contactService.findContactByName(nameRequests[0], user);
+        contactService.findContactByPhoneNumber(phoneNumberRequests[0], user);
+    }
+
+    @Benchmark
+    public List<Contact> findByNamePrefix() {
+        return contactService.findContactByName(nameRequests[next(nameRequests.length)], user);
+    }
+
+    @Benchmark
+    public List<Contact> findByPhoneNumber() {
+        return contactService.findContactByPhoneNumber(phoneNumberRequests[next(phoneNumberRequests.length)], user);
+    }
+
+    @Benchmark
+    public List<Contact> findByPhoneNumberSuffix() {
+        return contactService.findContactByPhoneNumber(suffixRequests[next(suffixRequests.length)], user);
+    }
+
+    private static int next(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+}
@@ -0,0 +1,43 @@
+package com.contactBox.benchmarks;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.dataTransferObjects.requests.UpdateContactRequest;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.contactBox.utilities.Mappers.createContactRequestMap;
+import static com.contactBox.utilities.Mappers.updateContactRequestUpdateMap;
+import static com.contactBox.utilities.PhoneNumbers.DEFAULT_COUNTRY_CODE;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final PhoneNumberCanonicalizer phoneNumberCanonicalizer = new PhoneNumberCanonicalizer(DEFAULT_COUNTRY_CODE);
+    private CreateContactRequest createContactRequest;
+    private UpdateContactRequest updateContactRequest;
+
+    @Setup
+    public void setUp() {
+        createContactRequest = BenchmarkContacts.createContactRequest();
+        updateContactRequest = BenchmarkContacts.updateContactRequest();
+    }
+
+    @Benchmark
+    public Contact createContact() {
+        return createContactRequestMap(createContactRequest, "owner", phoneNumberCanonicalizer);
+    }
+
+    @Benchmark
+    public Update updateContact() {
+        return updateContactRequestUpdateMap(updateContactRequest, phoneNumberCanonicalizer);
+    }
+}
@@ -0,0 +1,120 @@
+package com.contactBox.benchmarks;
+
+import com.contactBox.ContactBox;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RequestThreadingBenchmark {
+
+    private static final String MONGO_URI = "mongodb://127.0.0.1:27017/contactbox-benchmarks";
+    private static final int CONTACTS = 20;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"1000", "10000"})
+    private int concurrentClients;
+
+    @Param({"100", "1000"})
+    private int mongoPoolSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ConfigurableApplicationContext application;
+    private HttpClient httpClient;
+    private HttpRequest[] findContactRequests;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        application = new SpringApplicationBuilder(ContactBox.class).properties(
+                "server.port=0",
+                "spring.data.mongodb.uri=" + MONGO_URI,
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.max-connections=" + (concurrentClients + 100),
+                "server.tomcat.accept-count=" + concurrentClients,
+                "contactbox.mongo.max-pool-size=" + mongoPoolSize,
+                "contactbox.user-cache.max-size=0",
+                "contactbox.passwords.iterations=10000",
+                "contactbox.metrics.enabled=false").run();
+        clearCollections();
+        String baseUri = "http://127.0.0.1:" + application.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+        JsonNode signUp = send(baseUri, "POST", "/SignUp", "{\"username\":\"jane123\",\"password\":\"password\",\"confirmPassword\":\"password\"}");
+        String token = signUp.path("response").path("token").asText();
+        findContactRequests = new HttpRequest[CONTACTS];
+        for (int count = 0; count < CONTACTS; count++) {
+            JsonNode contact = send(baseUri, "POST", "/CreateContact", String.format(
+                    "{\"username\":\"jane123\",\"token\":\"%s\",\"firstName\":\"contact%d\",\"phoneNumber\":\"0803%07d\"}", token, count, count));
+            String contactId = contact.path("response").path("contactId").asText();
+            findContactRequests[count] = request(baseUri, "GET", "/FindContactById",
+                    String.format("{\"username\":\"jane123\",\"token\":\"%s\",\"contactId\":\"%s\"}", token, contactId));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        clearCollections();
+        application.close();
+        httpClient.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveConcurrentClients() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrentClients];
+        int[] successfulResponses = new int[1];
+        for (int client = 0; client < concurrentClients; client++) {
+            responses[client] = httpClient.sendAsync(findContactRequests[client % CONTACTS], HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() == 200) {
+                            synchronized (successfulResponses) {
+                                successfulResponses[0]++;
+                            }
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        if (successfulResponses[0] != concurrentClients) throw new IllegalStateException(String.format("Only %d of %d requests succeeded.", successfulResponses[0], concurrentClients));
+        return successfulResponses[0];
+    }
+
+    private void clearCollections() {
+        MongoTemplate mongoTemplate = application.getBean(MongoTemplate.class);
+        for (String collectionName : mongoTemplate.getCollectionNames()) {
+            mongoTemplate.getCollection(collectionName).deleteMany(new Document());
+        }
+    }
+
+    private JsonNode send(String baseUri, String method, String path, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request(baseUri, method, path, body), HttpResponse.BodyHandlers.ofString());
+        JsonNode apiResponse = objectMapper.readTree(response.body());
+        if (response.statusCode() >= 400) throw new IllegalStateException(path + " failed: " + response.body());
+        return apiResponse;
+    }
+
+    private static HttpRequest request(String baseUri, String method, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
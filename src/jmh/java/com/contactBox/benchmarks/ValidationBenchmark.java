@@ -0,0 +1,53 @@
+package com.contactBox.benchmarks;
+
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.contactBox.utilities.ContactRules.CREATE_CONTACT_RULES;
+import static com.contactBox.utilities.ContactRules.isPhoneNumberValid;
+import static com.contactBox.utilities.ValidateInputs.areAllFieldsNullOrEmpty;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"08031234567", "+234 (803) 123-4567", "0803-123-4567x"})
+    private String phoneNumber;
+
+    private CreateContactRequest emptyRequest;
+    private CreateContactRequest filledRequest;
+
+    @Setup
+    public void setUp() {
+        emptyRequest = new CreateContactRequest();
+        emptyRequest.setFirstName("");
+        filledRequest = BenchmarkContacts.createContactRequest();
+    }
+
+    @Benchmark
+    public boolean allFieldsEmpty() {
+        return areAllFieldsNullOrEmpty(emptyRequest);
+    }
+
+    @Benchmark
+    public boolean someFieldsFilled() {
+        return areAllFieldsNullOrEmpty(filledRequest);
+    }
+
+    @Benchmark
+    public boolean phoneNumberValidation() {
+        return isPhoneNumberValid(phoneNumber);
+    }
+
+    @Benchmark
+    public List<String> createContactRules() {
+        return CREATE_CONTACT_RULES.validate(filledRequest);
+    }
+}
@@ -0,0 +1,44 @@
+package com.contactBox.configurations;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnProperty(name = "contactbox.mongo.count-commands", havingValue = "true")
+public class MongoCommandCounter implements CommandListener {
+
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        commandCounts.computeIfAbsent(commandKey(event), key -> new LongAdder()).increment();
+    }
+
+    public long count(String commandName, String collection) {
+        LongAdder commandCount = commandCounts.get(commandName + " " + collection);
+        return commandCount == null ? 0 : commandCount.sum();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        commandCounts.forEach((key, commandCount) -> snapshot.put(key, commandCount.sum()));
+        return snapshot;
+    }
+
+    public void reset() {
+        commandCounts.clear();
+    }
+
+    private static String commandKey(CommandStartedEvent event) {
+        BsonValue target = event.getCommand().get(event.getCommandName());
+        return target != null && target.isString() ? event.getCommandName() + " " + target.asString().getValue() : event.getCommandName();
+    }
+}
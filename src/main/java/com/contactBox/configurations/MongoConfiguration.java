@@ -0,0 +1,24 @@
+package com.contactBox.configurations;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+@Configuration
+@EnableMongoRepositories(basePackages = "com.contactBox.data.repositories", repositoryImplementationPostfix = "Implementation")
+public class MongoConfiguration {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(@Value("${contactbox.mongo.max-pool-size:100}") int maxPoolSize) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool.maxSize(maxPoolSize));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "contactbox.mongo.count-commands", havingValue = "true")
+    public MongoClientSettingsBuilderCustomizer commandCounterCustomizer(MongoCommandCounter mongoCommandCounter) {
+        return settings -> settings.addCommandListener(mongoCommandCounter);
+    }
+}
@@ -0,0 +1,16 @@
+package com.contactBox.configurations;
+
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+import com.contactBox.utilities.PhoneNumbers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PhoneNumberConfiguration {
+
+    @Bean
+    public PhoneNumberCanonicalizer phoneNumberCanonicalizer(@Value("${contactbox.phone-numbers.default-country-code:" + PhoneNumbers.DEFAULT_COUNTRY_CODE + "}") String defaultCountryCode) {
+        return new PhoneNumberCanonicalizer(defaultCountryCode);
+    }
+}
@@ -0,0 +1,17 @@
+package com.contactBox.configurations;
+
+import com.contactBox.data.sessions.InMemorySessionStore;
+import com.contactBox.data.sessions.SessionStore;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+public class SessionAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(SessionStore.class)
+    public SessionStore sessionStore() {
+        return new InMemorySessionStore();
+    }
+}
@@ -1,53 +1,100 @@
 package com.contactBox.controllers;
 
+import com.contactBox.data.models.Contact;
 import com.contactBox.dataTransferObjects.requests.*;
 import com.contactBox.dataTransferObjects.responses.ApiResponse;
+import com.contactBox.services.ContactImportService;
 import com.contactBox.services.UserService;
+import com.contactBox.utilities.ContactFileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static com.contactBox.utilities.ContactWriters.writeContacts;
+import static com.contactBox.utilities.ContactWriters.writeNdjson;
+import static com.contactBox.utilities.Futures.unwrap;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserController {
 
+    private static final MediaType VCARD = MediaType.parseMediaType("text/vcard;charset=UTF-8");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ContactImportService contactImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/SignUp")
-    public ResponseEntity<?> signUp(@RequestBody SignUpRequest signUpRequest) {
+    public CompletableFuture<ResponseEntity<?>> signUp(@RequestBody SignUpRequest signUpRequest) {
+        return respond(userService.signUp(signUpRequest), HttpStatus.CREATED);
+    }
+
+    @PatchMapping("/Logout")
+    public ResponseEntity<?> logout(@RequestBody LogoutRequest logoutRequest) {
         try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.signUp(signUpRequest)), HttpStatus.CREATED);
+            return new ResponseEntity<>(new ApiResponse(true, userService.logout(logoutRequest)), HttpStatus.OK );
         }
         catch (Exception error) {
             return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
 
-    @PatchMapping("/Logout")
-    public ResponseEntity<?> logout(@RequestBody LogoutRequest logoutRequest) {
+    @PatchMapping("/Login")
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest) {
+        return respond(userService.login(loginRequest), HttpStatus.OK);
+    }
+
+    @PostMapping("/CreateContact")
+    public ResponseEntity<?> createContact(@RequestBody CreateContactRequest createContactRequest) {
         try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.logout(logoutRequest)), HttpStatus.OK );
+            return new ResponseEntity<>(new ApiResponse(true, userService.createContact(createContactRequest)), HttpStatus.CREATED);
         }
         catch (Exception error) {
             return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
 
-    @PatchMapping("/Login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
+    @PostMapping("/BulkCreateContacts")
+    public ResponseEntity<?> bulkCreateContacts(@RequestBody BulkCreateContactRequest bulkCreateContactRequest) {
         try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.login(loginRequest)), HttpStatus.OK );
+            return new ResponseEntity<>(new ApiResponse(true, userService.bulkCreateContacts(bulkCreateContactRequest)), HttpStatus.CREATED);
         }
         catch (Exception error) {
             return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
 
-    @PostMapping("/CreateContact")
-    public ResponseEntity<?> createContact(@RequestBody CreateContactRequest createContactRequest) {
+    @PostMapping("/ImportContacts")
+    public ResponseEntity<?> importContacts(@RequestParam String username, @RequestHeader(ContactImportService.SESSION_TOKEN_HEADER) String token, @RequestParam ContactFileFormat format, InputStream inputStream) {
         try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.createContact(createContactRequest)), HttpStatus.CREATED);
+            return new ResponseEntity<>(new ApiResponse(true, contactImportService.importContacts(username, token, format, inputStream)), HttpStatus.CREATED);
+        }
+        catch (Exception error) {
+            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping("/ImportProgress")
+    public ResponseEntity<?> findImportProgress(@RequestBody ContactImportProgressRequest contactImportProgressRequest) {
+        try {
+            return new ResponseEntity<>(new ApiResponse(true, contactImportService.findImportProgress(contactImportProgressRequest)), HttpStatus.OK);
         }
         catch (Exception error) {
             return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
@@ -64,6 +111,16 @@ public class UserController {
         }
     }
 
+    @PatchMapping("/BulkUpdateContacts")
+    public ResponseEntity<?> bulkUpdateContacts(@RequestBody BulkUpdateContactRequest bulkUpdateContactRequest) {
+        try {
+            return new ResponseEntity<>(new ApiResponse(true, userService.bulkUpdateContacts(bulkUpdateContactRequest)), HttpStatus.OK);
+        }
+        catch (Exception error) {
+            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping("/FindContactById")
     public ResponseEntity<?> findContactById(@RequestBody FindContactByIdRequest findContactByIdRequest) {
         try {
@@ -75,19 +132,47 @@ public class UserController {
     }
 
     @DeleteMapping("/DeleteContact")
-    public ResponseEntity<?> deleteContact(@RequestBody DeleteContactRequest deleteContactRequest) {
+    public CompletableFuture<ResponseEntity<?>> deleteContact(@RequestBody DeleteContactRequest deleteContactRequest) {
+        return respond(userService.deleteContact(deleteContactRequest), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/BulkDeleteContacts")
+    public CompletableFuture<ResponseEntity<?>> bulkDeleteContacts(@RequestBody BulkDeleteContactRequest bulkDeleteContactRequest) {
+        return respond(userService.bulkDeleteContacts(bulkDeleteContactRequest), HttpStatus.OK);
+    }
+
+    @GetMapping("/FindAllContacts")
+    public ResponseEntity<?> findAllContacts(@RequestBody FindAllContactRequest findAllContactRequest) {
         try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.deleteContact(deleteContactRequest)), HttpStatus.OK);
+            return new ResponseEntity<>(new ApiResponse(true, userService.findAllContacts(findAllContactRequest)), HttpStatus.OK);
         }
         catch (Exception error) {
             return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
 
-    @GetMapping("/FindAllContacts")
-    public ResponseEntity<?> findAllContacts(@RequestBody FindAllContactRequest findAllContactRequest) {
+    @GetMapping("/StreamAllContacts")
+    public ResponseEntity<?> streamAllContacts(@RequestBody FindAllContactRequest findAllContactRequest) {
         try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.findAllContacts(findAllContactRequest)), HttpStatus.OK);
+            Stream<Contact> contacts = userService.streamAllContacts(findAllContactRequest);
+            StreamingResponseBody responseBody = outputStream -> writeNdjson(contacts, outputStream, objectMapper);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(responseBody);
+        }
+        catch (Exception error) {
+            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping("/ExportContacts")
+    public ResponseEntity<?> exportContacts(@RequestBody ExportContactRequest exportContactRequest) {
+        try {
+            Stream<Contact> contacts = userService.exportContacts(exportContactRequest);
+            ContactFileFormat format = exportContactRequest.getFormat();
+            StreamingResponseBody responseBody = outputStream -> writeContacts(contacts, outputStream, format);
+            return ResponseEntity.ok()
+                    .contentType(format == ContactFileFormat.VCARD ? VCARD : CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(format == ContactFileFormat.VCARD ? "contacts.vcf" : "contacts.csv").build().toString())
+                    .body(responseBody);
         }
         catch (Exception error) {
             return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
@@ -115,4 +200,9 @@ public class UserController {
 
     }
 
-}
\ No newline at end of file
+    private static CompletableFuture<ResponseEntity<?>> respond(CompletableFuture<?> response, HttpStatus status) {
+        return response.<ResponseEntity<?>>handle((result, error) -> error == null
+                ? new ResponseEntity<>(new ApiResponse(true, result), status)
+                : new ResponseEntity<>(new ApiResponse(false, unwrap(error).getMessage()), HttpStatus.BAD_REQUEST));
+    }
+}
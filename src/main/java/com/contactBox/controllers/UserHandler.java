@@ -0,0 +1,169 @@
+package com.contactBox.controllers;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.dataTransferObjects.responses.ApiResponse;
+import com.contactBox.services.ContactImportService;
+import com.contactBox.services.ReactiveUserService;
+import com.contactBox.utilities.ContactFileFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import static com.contactBox.utilities.ContactWriters.writeContacts;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class UserHandler {
+
+    private static final MediaType VCARD = MediaType.parseMediaType("text/vcard;charset=UTF-8");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    @Autowired
+    private ReactiveUserService reactiveUserService;
+
+    @Autowired
+    private ContactImportService contactImportService;
+
+    public Mono<ServerResponse> signUp(ServerRequest request) {
+        return respond(readBody(request, SignUpRequest.class).flatMap(reactiveUserService::signUp), HttpStatus.CREATED);
+    }
+
+    public Mono<ServerResponse> logout(ServerRequest request) {
+        return respond(readBody(request, LogoutRequest.class).flatMap(reactiveUserService::logout), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        return respond(readBody(request, LoginRequest.class).flatMap(reactiveUserService::login), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> createContact(ServerRequest request) {
+        return respond(readBody(request, CreateContactRequest.class).flatMap(reactiveUserService::createContact), HttpStatus.CREATED);
+    }
+
+    public Mono<ServerResponse> bulkCreateContacts(ServerRequest request) {
+        return respond(readBody(request, BulkCreateContactRequest.class).flatMap(reactiveUserService::bulkCreateContacts), HttpStatus.CREATED);
+    }
+
+    public Mono<ServerResponse> importContacts(ServerRequest request) {
+        Mono<?> importResponse = Mono.defer(() -> {
+            ContactFileFormat format = request.queryParam("format").map(ContactFileFormat::valueOf).orElse(null);
+            return Mono.usingWhen(
+                    Mono.fromCallable(() -> Files.createTempFile("contact-import-", ".tmp")).subscribeOn(Schedulers.boundedElastic()),
+                    file -> DataBufferUtils.write(request.body(BodyExtractors.toDataBuffers()), file)
+                            .then(Mono.fromCallable(() -> importContacts(request, format, file)).subscribeOn(Schedulers.boundedElastic())),
+                    file -> Mono.fromCallable(() -> Files.deleteIfExists(file)).subscribeOn(Schedulers.boundedElastic()));
+        });
+        return respond(importResponse, HttpStatus.CREATED);
+    }
+
+    public Mono<ServerResponse> findImportProgress(ServerRequest request) {
+        return respond(readBody(request, ContactImportProgressRequest.class).map(contactImportService::findImportProgress), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> updateContact(ServerRequest request) {
+        return respond(readBody(request, UpdateContactRequest.class).flatMap(reactiveUserService::updateContact), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> bulkUpdateContacts(ServerRequest request) {
+        return respond(readBody(request, BulkUpdateContactRequest.class).flatMap(reactiveUserService::bulkUpdateContacts), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> findContactById(ServerRequest request) {
+        return respond(readBody(request, FindContactByIdRequest.class).flatMap(reactiveUserService::findContactById), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> deleteContact(ServerRequest request) {
+        return respond(readBody(request, DeleteContactRequest.class).flatMap(reactiveUserService::deleteContact), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> bulkDeleteContacts(ServerRequest request) {
+        return respond(readBody(request, BulkDeleteContactRequest.class).flatMap(reactiveUserService::bulkDeleteContacts), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> findAllContacts(ServerRequest request) {
+        return respond(readBody(request, FindAllContactRequest.class).flatMap(reactiveUserService::findAllContacts), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> streamAllContacts(ServerRequest request) {
+        Mono<ServerResponse> response = readBody(request, FindAllContactRequest.class)
+                .flatMap(findAllContactRequest -> whenStarted(reactiveUserService.streamAllContacts(findAllContactRequest),
+                        contacts -> ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(contacts, Contact.class)));
+        return response.onErrorResume(UserHandler::badRequest);
+    }
+
+    public Mono<ServerResponse> exportContacts(ServerRequest request) {
+        Mono<ServerResponse> response = readBody(request, ExportContactRequest.class)
+                .flatMap(exportContactRequest -> whenStarted(reactiveUserService.exportContacts(exportContactRequest), contacts -> {
+                    ContactFileFormat format = exportContactRequest.getFormat();
+                    Flux<DataBuffer> responseBody = Flux.from(DataBufferUtils.outputStreamPublisher(outputStream -> {
+                        try {
+                            writeContacts(contacts.toStream(), outputStream, format);
+                        }
+                        catch (IOException error) {
+                            throw new UncheckedIOException(error);
+                        }
+                    }, DefaultDataBufferFactory.sharedInstance, task -> Schedulers.boundedElastic().schedule(task)));
+                    return ServerResponse.ok()
+                            .contentType(format == ContactFileFormat.VCARD ? VCARD : CSV)
+                            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(format == ContactFileFormat.VCARD ? "contacts.vcf" : "contacts.csv").build().toString())
+                            .body(BodyInserters.fromDataBuffers(responseBody));
+                }));
+        return response.onErrorResume(UserHandler::badRequest);
+    }
+
+    public Mono<ServerResponse> findContactByName(ServerRequest request) {
+        return respond(readBody(request, FindContactByNameRequest.class).flatMap(reactiveUserService::findContactByName), HttpStatus.OK);
+    }
+
+    public Mono<ServerResponse> findContactByPhoneNumber(ServerRequest request) {
+        return respond(readBody(request, FindContactByPhoneNumberRequest.class).flatMap(reactiveUserService::findContactByPhoneNumber), HttpStatus.OK);
+    }
+
+    private Object importContacts(ServerRequest request, ContactFileFormat format, Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return contactImportService.importContacts(request.queryParam("username").orElse(null), request.headers().firstHeader(ContactImportService.SESSION_TOKEN_HEADER), format, inputStream);
+        }
+    }
+
+    private static <T> Mono<T> readBody(ServerRequest request, Class<T> requestType) {
+        return request.bodyToMono(requestType).switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Request body is empty. Please enter a valid input.")));
+    }
+
+    private static Mono<ServerResponse> whenStarted(Flux<Contact> contacts, Function<Flux<Contact>, Mono<ServerResponse>> response) {
+        return contacts.switchOnFirst((firstSignal, allContacts) -> {
+            if (firstSignal.isOnError()) return Mono.error(firstSignal.getThrowable());
+            return response.apply(allContacts);
+        }, false).single();
+    }
+
+    private static Mono<ServerResponse> respond(Mono<?> response, HttpStatus status) {
+        return response.flatMap(body -> ServerResponse.status(status).bodyValue(new ApiResponse(true, body)))
+                .onErrorResume(UserHandler::badRequest);
+    }
+
+    private static Mono<ServerResponse> badRequest(Throwable error) {
+        return ServerResponse.badRequest().bodyValue(new ApiResponse(false, error.getMessage()));
+    }
+}
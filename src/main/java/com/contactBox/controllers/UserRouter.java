@@ -0,0 +1,36 @@
+package com.contactBox.controllers;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class UserRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> userRoutes(UserHandler userHandler) {
+        return RouterFunctions.route()
+                .POST("/SignUp", userHandler::signUp)
+                .PATCH("/Logout", userHandler::logout)
+                .PATCH("/Login", userHandler::login)
+                .POST("/CreateContact", userHandler::createContact)
+                .POST("/BulkCreateContacts", userHandler::bulkCreateContacts)
+                .POST("/ImportContacts", userHandler::importContacts)
+                .GET("/ImportProgress", userHandler::findImportProgress)
+                .PATCH("/UpdateContact", userHandler::updateContact)
+                .PATCH("/BulkUpdateContacts", userHandler::bulkUpdateContacts)
+                .GET("/FindContactById", userHandler::findContactById)
+                .DELETE("/DeleteContact", userHandler::deleteContact)
+                .DELETE("/BulkDeleteContacts", userHandler::bulkDeleteContacts)
+                .GET("/FindAllContacts", userHandler::findAllContacts)
+                .GET("/StreamAllContacts", userHandler::streamAllContacts)
+                .GET("/ExportContacts", userHandler::exportContacts)
+                .GET("/FindContactByName", userHandler::findContactByName)
+                .GET("/FindContactByPhoneNumber", userHandler::findContactByPhoneNumber)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.contactBox.data.cache;
+
+import com.contactBox.data.models.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+@Component
+public class UserCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final Cache<String, User> users;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    @Autowired
+    public UserCache(@Value("${contactbox.user-cache.max-size:10000}") int maxSize,
+                     @Value("${contactbox.user-cache.time-to-live:5m}") Duration timeToLive) {
+        this(maxSize, timeToLive, System::nanoTime);
+    }
+
+    public UserCache(int maxSize, Duration timeToLive, LongSupplier nanoClock) {
+        if (maxSize < 0) throw new IllegalArgumentException("contactbox.user-cache.max-size cannot be negative.");
+        this.enabled = maxSize > 0;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(nanoClock::getAsLong)
+                .executor(Runnable::run)
+                .recordStats()
+                .<String, User>evictionListener((username, user, cause) -> (cause == RemovalCause.EXPIRED ? expirationCount : evictionCount).increment())
+                .build();
+    }
+
+    public User findByUsername(String username, Function<String, User> loader) {
+        if (username == null || !enabled) return loader.apply(username);
+        long generation = generation(username);
+        User user = getIfPresent(username);
+        if (user != null) return user;
+        user = loader.apply(username);
+        putIfAbsent(user, generation);
+        return user;
+    }
+
+    public User getIfPresent(String username) {
+        if (username == null || !enabled) return null;
+        return users.getIfPresent(normalize(username));
+    }
+
+    public long generation(String username) {
+        return username == null ? 0 : generations.get(stripe(normalize(username)));
+    }
+
+    public void putIfAbsent(User user, long generation) {
+        if (user == null || user.getUsername() == null || !enabled) return;
+        users.asMap().compute(normalize(user.getUsername()), (key, cachedUser) -> cachedUser != null || generations.get(stripe(key)) != generation ? cachedUser : user);
+    }
+
+    public void evict(String username) {
+        if (username == null) return;
+        users.asMap().compute(normalize(username), (key, cachedUser) -> {
+            generations.incrementAndGet(stripe(key));
+            return null;
+        });
+    }
+
+    public void evictIf(Predicate<User> predicate) {
+        for (Map.Entry<String, User> cachedUser : users.asMap().entrySet()) {
+            if (predicate.test(cachedUser.getValue())) evict(cachedUser.getKey());
+        }
+    }
+
+    public void clear() {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        users.invalidateAll();
+    }
+
+    public UserCacheStats stats() {
+        CacheStats stats = users.stats();
+        return new UserCacheStats((int) users.estimatedSize(), stats.hitCount(), stats.missCount(), evictionCount.sum(), expirationCount.sum());
+    }
+
+    private static int stripe(String key) {
+        return key.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    public record UserCacheStats(int size, long hitCount, long missCount, long evictionCount, long expirationCount) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.contactBox.data.cache;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+public class UserCacheEvictionListener {
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        if (isDeleteFrom(event, User.class)) evictDeletedUsers(event.getSource());
+        else if (isDeleteFrom(event, Contact.class)) evictOwnersOfDeletedContacts(event.getSource());
+    }
+
+    private boolean isDeleteFrom(AfterDeleteEvent<?> event, Class<?> type) {
+        return type.equals(event.getType()) || mongoTemplate.getCollectionName(type).equals(event.getCollectionName());
+    }
+
+    private void evictDeletedUsers(Document filter) {
+        if (filter.get("username") instanceof String username) {
+            userCache.evict(username);
+            return;
+        }
+        Set<String> userIds = ids(filter.get("_id"));
+        if (userIds == null) userCache.clear();
+        else userCache.evictIf(user -> userIds.contains(user.getId()));
+    }
+
+    private void evictOwnersOfDeletedContacts(Document filter) {
+        if (filter.get("ownerId") instanceof String ownerId) {
+            userCache.evictIf(user -> ownerId.equals(user.getId()));
+            return;
+        }
+        Set<String> contactIds = ids(filter.get("_id"));
+        if (contactIds == null) userCache.evictIf(user -> !user.getContacts().getContactIds().isEmpty());
+        else userCache.evictIf(user -> !Collections.disjoint(user.getContacts().getContactIds(), contactIds));
+    }
+
+    private static Set<String> ids(Object value) {
+        if (value == null) return null;
+        if (value instanceof Document operator) {
+            if (operator.size() != 1 || !(operator.get("$in") instanceof Collection<?> values)) return null;
+            Set<String> ids = new HashSet<>(values.size() * 4 / 3 + 1);
+            for (Object id : values) {
+                ids.add(String.valueOf(id));
+            }
+            return ids;
+        }
+        return Set.of(value.toString());
+    }
+}
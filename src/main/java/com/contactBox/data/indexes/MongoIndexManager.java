@@ -0,0 +1,46 @@
+package com.contactBox.data.indexes;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.stereotype.Component;
+
+import static com.contactBox.data.repositories.UserRepository.USERNAME_COLLATION;
+
+@Component
+public class MongoIndexManager implements InitializingBean {
+
+    public static final String USERNAME_INDEX = "username_case_insensitive";
+    public static final String OWNER_INDEX = "owner_id";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        ensureUserIndexes();
+        ensureContactIndexes();
+    }
+
+    private void ensureUserIndexes() {
+        Index usernameIndex = new Index()
+                .on("username", Sort.Direction.ASC)
+                .unique()
+                .collation(Collation.parse(USERNAME_COLLATION))
+                .named(USERNAME_INDEX);
+        mongoTemplate.indexOps(User.class).ensureIndex(usernameIndex);
+    }
+
+    private void ensureContactIndexes() {
+        Index ownerIndex = new Index()
+                .on("ownerId", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named(OWNER_INDEX);
+        mongoTemplate.indexOps(Contact.class).ensureIndex(ownerIndex);
+    }
+}
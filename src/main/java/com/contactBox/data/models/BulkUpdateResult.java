@@ -0,0 +1,7 @@
+package com.contactBox.data.models;
+
+import java.util.Map;
+import java.util.Set;
+
+public record BulkUpdateResult(Set<String> matchedContactIds, Map<Integer, String> errors) {
+}
@@ -2,6 +2,7 @@ package com.contactBox.data.models;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
@@ -9,9 +10,13 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class Contact {
     @Id
     private String id;
+    @Version
+    private Long version;
+    private String ownerId;
     private String firstName;
     private String lastName;
     private String phoneNumber;
+    private String canonicalPhoneNumber;
     private String email;
     private Address address = new Address();
     private String notes;
@@ -0,0 +1,174 @@
+package com.contactBox.data.models;
+
+import com.contactBox.data.search.ContactNameIndex;
+import com.contactBox.data.search.ContactPhoneNumberIndex;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+public class ContactList extends AbstractList<Contact> implements RandomAccess {
+    private final List<Contact> contacts;
+    private final Map<String, Contact> contactsById;
+    private List<String> unloadedContactIds;
+    private volatile Function<List<String>, List<Contact>> contactLoader;
+    private volatile ContactNameIndex nameIndex;
+    private volatile ContactPhoneNumberIndex phoneNumberIndex;
+
+    public ContactList() {
+        contacts = new ArrayList<>();
+        contactsById = new HashMap<>();
+    }
+
+    public ContactList(Collection<Contact> contacts) {
+        this.contacts = new ArrayList<>(contacts);
+        contactsById = new HashMap<>(Math.max(16, contacts.size() * 4 / 3 + 1));
+        for (Contact contact : this.contacts) {
+            addToIndex(contact);
+        }
+    }
+
+    public ContactList(List<String> contactIds, Function<List<String>, List<Contact>> contactLoader) {
+        contacts = new ArrayList<>(contactIds.size());
+        contactsById = new HashMap<>(Math.max(16, contactIds.size() * 4 / 3 + 1));
+        unloadedContactIds = List.copyOf(contactIds);
+        this.contactLoader = contactLoader;
+    }
+
+    public boolean isLoaded() {
+        return contactLoader == null;
+    }
+
+    public List<String> getContactIds() {
+        if (!isLoaded()) {
+            synchronized (this) {
+                if (!isLoaded()) return unloadedContactIds;
+            }
+        }
+        List<String> contactIds = new ArrayList<>(contacts.size());
+        for (Contact contact : contacts) {
+            contactIds.add(contact.getId());
+        }
+        return contactIds;
+    }
+
+    public Contact findById(String contactId) {
+        if (contactId == null) return null;
+        load();
+        return contactsById.get(contactId);
+    }
+
+    public List<Contact> findByName(String name, int limit) {
+        load();
+        return nameIndex().search(name, limit);
+    }
+
+    public List<Contact> findByPhoneNumber(String phoneNumber, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        load();
+        return phoneNumberIndex(phoneNumberCanonicalizer).search(phoneNumber);
+    }
+
+    public List<Contact> findByPhoneNumberSuffix(String phoneNumber, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        load();
+        return phoneNumberIndex(phoneNumberCanonicalizer).searchBySuffix(phoneNumber);
+    }
+
+    @Override
+    public Contact get(int index) {
+        load();
+        return contacts.get(index);
+    }
+
+    @Override
+    public int size() {
+        load();
+        return contacts.size();
+    }
+
+    @Override
+    public Contact set(int index, Contact contact) {
+        load();
+        Contact replacedContact = contacts.set(index, contact);
+        removeFromIndex(replacedContact);
+        addToIndex(contact);
+        return replacedContact;
+    }
+
+    @Override
+    public void add(int index, Contact contact) {
+        load();
+        contacts.add(index, contact);
+        addToIndex(contact);
+        modCount++;
+    }
+
+    @Override
+    public Contact remove(int index) {
+        load();
+        Contact removedContact = contacts.remove(index);
+        removeFromIndex(removedContact);
+        modCount++;
+        return removedContact;
+    }
+
+    @Override
+    public void clear() {
+        load();
+        contacts.clear();
+        contactsById.clear();
+        nameIndex = null;
+        phoneNumberIndex = null;
+        modCount++;
+    }
+
+    private void load() {
+        if (contactLoader == null) return;
+        synchronized (this) {
+            if (contactLoader == null) return;
+            for (Contact contact : contactLoader.apply(unloadedContactIds)) {
+                contacts.add(contact);
+                addToIndex(contact);
+            }
+            unloadedContactIds = null;
+            contactLoader = null;
+        }
+    }
+
+    private ContactNameIndex nameIndex() {
+        ContactNameIndex index = nameIndex;
+        if (index != null) return index;
+        synchronized (this) {
+            if (nameIndex == null) nameIndex = new ContactNameIndex(contacts);
+            return nameIndex;
+        }
+    }
+
+    private ContactPhoneNumberIndex phoneNumberIndex(PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        ContactPhoneNumberIndex index = phoneNumberIndex;
+        if (index != null) return index;
+        synchronized (this) {
+            if (phoneNumberIndex == null) phoneNumberIndex = new ContactPhoneNumberIndex(contacts, phoneNumberCanonicalizer);
+            return phoneNumberIndex;
+        }
+    }
+
+    private void addToIndex(Contact contact) {
+        if (contact == null) return;
+        if (contact.getId() != null) contactsById.put(contact.getId(), contact);
+        if (nameIndex != null) nameIndex.add(contact);
+        if (phoneNumberIndex != null) phoneNumberIndex.add(contact);
+    }
+
+    private void removeFromIndex(Contact contact) {
+        if (contact == null) return;
+        if (contact.getId() != null) contactsById.remove(contact.getId(), contact);
+        if (nameIndex != null) nameIndex.remove(contact);
+        if (phoneNumberIndex != null) phoneNumberIndex.remove(contact);
+    }
+}
@@ -2,11 +2,11 @@ package com.contactBox.data.models;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -14,12 +14,17 @@ import java.util.List;
 public class User {
     @Id
     private String id;
+    @Version
+    private Long version;
     private String firstName;
     private String lastName;
     private String username;
     private String password;
-    private boolean isLocked;
     private LocalDate dateOfRegistration = LocalDate.now();
-    @DBRef
-    private List<Contact> contacts = new ArrayList<>();
+    @Transient
+    private ContactList contacts = new ContactList();
+
+    public void setContacts(List<Contact> contacts) {
+        this.contacts = contacts instanceof ContactList contactList ? contactList : new ContactList(contacts);
+    }
 }
@@ -0,0 +1,4 @@
+package com.contactBox.data.models;
+
+public record UserCredentials(String id, String username, String password, Long version) {
+}
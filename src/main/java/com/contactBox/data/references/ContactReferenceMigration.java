@@ -0,0 +1,119 @@
+package com.contactBox.data.references;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.contactBox.data.references.ContactReferences.CONTACTS_FIELD;
+
+@Component
+public class ContactReferenceMigration implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactReferenceMigration.class);
+    private static final int BATCH_SIZE = 500;
+    private static final int BSON_OBJECT_TYPE = 3;
+    private static final int BSON_OBJECT_ID_TYPE = 7;
+    private static final int BSON_STRING_TYPE = 2;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ContactReferences contactReferences;
+
+    @Value("${contactbox.contacts.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    @Value("${contactbox.contacts.backfill-owners-on-startup:true}")
+    private boolean backfillOwnersOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrateOnStartup) migrate();
+        if (backfillOwnersOnStartup) backfillContactOwners();
+    }
+
+    public long migrate() {
+        String collection = mongoTemplate.getCollectionName(User.class);
+        long migratedUsers = 0;
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Document> users = mongoTemplate.stream(usersInOtherFormat(), Document.class, collection)) {
+            for (Document user : (Iterable<Document>) users::iterator) {
+                batch.add(user);
+                if (batch.size() == BATCH_SIZE) {
+                    migratedUsers += rewriteReferences(batch, collection);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) migratedUsers += rewriteReferences(batch, collection);
+        LOGGER.info("Migrated contact references of {} users to {} storage.", migratedUsers, contactReferences.getStorageMode());
+        return migratedUsers;
+    }
+
+    public long backfillContactOwners() {
+        String collection = mongoTemplate.getCollectionName(User.class);
+        Query usersWithContacts = new Query(Criteria.where(CONTACTS_FIELD + ".0").exists(true));
+        usersWithContacts.fields().include(CONTACTS_FIELD);
+        long updatedContacts = 0;
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Document> users = mongoTemplate.stream(usersWithContacts, Document.class, collection)) {
+            for (Document user : (Iterable<Document>) users::iterator) {
+                batch.add(user);
+                if (batch.size() == BATCH_SIZE) {
+                    updatedContacts += setContactOwners(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) updatedContacts += setContactOwners(batch);
+        LOGGER.info("Set the owner of {} contacts.", updatedContacts);
+        return updatedContacts;
+    }
+
+    private int setContactOwners(List<Document> users) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Contact.class);
+        for (Document user : users) {
+            Query ownedContacts = new Query(Criteria.where("_id").in(ContactReferences.toContactIds(user.get(CONTACTS_FIELD))).and("ownerId").exists(false));
+            bulkOperations.updateMulti(ownedContacts, new Update().set("ownerId", ContactReferences.toContactId(user.get("_id"))));
+        }
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    private Query usersInOtherFormat() {
+        Criteria criteria = contactReferences.getStorageMode() == ContactStorageMode.DBREF
+                ? new Criteria().orOperator(Criteria.where(CONTACTS_FIELD).type(BSON_OBJECT_ID_TYPE), Criteria.where(CONTACTS_FIELD).type(BSON_STRING_TYPE))
+                : Criteria.where(CONTACTS_FIELD).type(BSON_OBJECT_TYPE);
+        Query query = new Query(criteria);
+        query.fields().include(CONTACTS_FIELD);
+        return query;
+    }
+
+    private int rewriteReferences(List<Document> users, String collection) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (Document user : users) {
+            List<Object> references = new ArrayList<>();
+            for (String contactId : ContactReferences.toContactIds(user.get(CONTACTS_FIELD))) {
+                references.add(contactReferences.toReference(contactId));
+            }
+            bulkOperations.updateOne(new Query(Criteria.where("_id").is(user.get("_id"))), new Update().set(CONTACTS_FIELD, references));
+        }
+        return bulkOperations.execute().getModifiedCount();
+    }
+}
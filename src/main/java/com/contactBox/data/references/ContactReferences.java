@@ -0,0 +1,65 @@
+package com.contactBox.data.references;
+
+import com.contactBox.data.models.Contact;
+import com.mongodb.DBRef;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ContactReferences {
+
+    public static final String CONTACTS_FIELD = "contacts";
+    public static final String CONTACTS_COLLECTION = "Contacts";
+
+    @Value("${contactbox.contacts.storage-mode:REFERENCE}")
+    private ContactStorageMode storageMode;
+
+    public ContactStorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public Object toReference(String contactId) {
+        if (contactId == null) throw new IllegalStateException("Cannot reference a contact that has not been saved.");
+        Object id = ObjectId.isValid(contactId) ? new ObjectId(contactId) : contactId;
+        if (storageMode == ContactStorageMode.DBREF) return new DBRef(CONTACTS_COLLECTION, id);
+        return id;
+    }
+
+    public static List<Object> toAllReferences(List<String> contactIds) {
+        List<Object> references = new ArrayList<>(contactIds.size() * 2);
+        for (String contactId : contactIds) {
+            Object id = ObjectId.isValid(contactId) ? new ObjectId(contactId) : contactId;
+            references.add(id);
+            references.add(new DBRef(CONTACTS_COLLECTION, id));
+        }
+        return references;
+    }
+
+    public List<Object> toReferences(List<Contact> contacts) {
+        List<Object> references = new ArrayList<>(contacts.size());
+        for (Contact contact : contacts) {
+            references.add(toReference(contact.getId()));
+        }
+        return references;
+    }
+
+    public static String toContactId(Object reference) {
+        Object id = reference instanceof DBRef dbRef ? dbRef.getId() : reference;
+        if (id instanceof ObjectId objectId) return objectId.toHexString();
+        return id == null ? null : id.toString();
+    }
+
+    public static List<String> toContactIds(Object references) {
+        List<String> contactIds = new ArrayList<>();
+        if (!(references instanceof List<?> referenceList)) return contactIds;
+        for (Object reference : referenceList) {
+            String contactId = toContactId(reference);
+            if (contactId != null) contactIds.add(contactId);
+        }
+        return contactIds;
+    }
+}
@@ -0,0 +1,6 @@
+package com.contactBox.data.references;
+
+public enum ContactStorageMode {
+    DBREF,
+    REFERENCE
+}
@@ -0,0 +1,62 @@
+package com.contactBox.data.references;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.reactive.ReactiveContactRepository;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeSaveCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.contactBox.data.references.ContactReferences.CONTACTS_FIELD;
+import static com.contactBox.data.references.ContactReferences.toContactIds;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserContactsCallback implements ReactiveBeforeSaveCallback<User>, ReactiveAfterConvertCallback<User> {
+
+    @Autowired
+    private ContactReferences contactReferences;
+
+    @Lazy
+    @Autowired
+    private ReactiveContactRepository reactiveContactRepository;
+
+    @Override
+    public Publisher<User> onBeforeSave(User user, Document document, String collection) {
+        return Mono.fromCallable(() -> {
+            document.put(CONTACTS_FIELD, contactReferences.toReferences(user.getContacts()));
+            return user;
+        });
+    }
+
+    @Override
+    public Publisher<User> onAfterConvert(User user, Document document, String collection) {
+        List<String> contactIds = toContactIds(document.get(CONTACTS_FIELD));
+        if (contactIds.isEmpty()) return Mono.just(user);
+        return reactiveContactRepository.findAllById(contactIds)
+                .collectMap(Contact::getId)
+                .map(contactsById -> {
+                    user.setContacts(orderContacts(contactIds, contactsById));
+                    return user;
+                });
+    }
+
+    private static List<Contact> orderContacts(List<String> contactIds, Map<String, Contact> contactsById) {
+        List<Contact> contacts = new ArrayList<>(contactIds.size());
+        for (String contactId : contactIds) {
+            Contact contact = contactsById.get(contactId);
+            if (contact != null) contacts.add(contact);
+        }
+        return contacts;
+    }
+}
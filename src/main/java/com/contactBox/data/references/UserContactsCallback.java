@@ -0,0 +1,63 @@
+package com.contactBox.data.references;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.ContactList;
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.ContactRepository;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.contactBox.data.references.ContactReferences.CONTACTS_FIELD;
+import static com.contactBox.data.references.ContactReferences.toContactIds;
+
+@Component
+public class UserContactsCallback implements BeforeSaveCallback<User>, AfterConvertCallback<User> {
+
+    @Autowired
+    private ContactReferences contactReferences;
+
+    @Lazy
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Override
+    public User onBeforeSave(User user, Document document, String collection) {
+        List<String> contactIds = user.getContacts().getContactIds();
+        List<Object> references = new ArrayList<>(contactIds.size());
+        for (String contactId : contactIds) {
+            references.add(contactReferences.toReference(contactId));
+        }
+        document.put(CONTACTS_FIELD, references);
+        return user;
+    }
+
+    @Override
+    public User onAfterConvert(User user, Document document, String collection) {
+        List<String> contactIds = toContactIds(document.get(CONTACTS_FIELD));
+        user.setContacts(contactIds.isEmpty() ? new ContactList() : new ContactList(contactIds, this::loadContacts));
+        return user;
+    }
+
+    private List<Contact> loadContacts(List<String> contactIds) {
+        List<Contact> contacts = new ArrayList<>(contactIds.size());
+        if (contactIds.isEmpty()) return contacts;
+        Map<String, Contact> contactsById = new HashMap<>();
+        for (Contact contact : contactRepository.findAllById(contactIds)) {
+            contactsById.put(contact.getId(), contact);
+        }
+        for (String contactId : contactIds) {
+            Contact contact = contactsById.get(contactId);
+            if (contact != null) contacts.add(contact);
+        }
+        return contacts;
+    }
+}
@@ -0,0 +1,20 @@
+package com.contactBox.data.repositories;
+
+import com.contactBox.data.models.BulkUpdateResult;
+import com.contactBox.data.models.Contact;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ContactOperations {
+    Contact updateContact(String contactId, String ownerId, Update update);
+
+    BulkUpdateResult updateContacts(List<String> contactIds, String ownerId, List<Update> updates);
+
+    long deleteContacts(List<String> contactIds);
+
+    List<Contact> deleteOwnedContacts(List<String> contactIds, String ownerId);
+
+    Set<String> findOwnedContactIds(List<String> contactIds, String ownerId);
+}
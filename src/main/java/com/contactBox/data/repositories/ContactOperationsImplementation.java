@@ -0,0 +1,84 @@
+package com.contactBox.data.repositories;
+
+import com.contactBox.data.models.BulkUpdateResult;
+import com.contactBox.data.models.Contact;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ContactOperationsImplementation implements ContactOperations {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Contact updateContact(String contactId, String ownerId, Update update) {
+        return mongoTemplate.findAndModify(query(where("_id").is(contactId).and("ownerId").is(ownerId)), update, FindAndModifyOptions.options().returnNew(true), Contact.class);
+    }
+
+    @Override
+    public BulkUpdateResult updateContacts(List<String> contactIds, String ownerId, List<Update> updates) {
+        Map<Integer, String> errors = new HashMap<>();
+        if (contactIds.isEmpty()) return new BulkUpdateResult(new HashSet<>(), errors);
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Contact.class);
+        for (int index = 0; index < contactIds.size(); index++) {
+            bulkOperations.updateOne(query(where("_id").is(contactIds.get(index)).and("ownerId").is(ownerId)), updates.get(index).inc("version", 1));
+        }
+        BulkWriteResult result;
+        try {
+            result = bulkOperations.execute();
+        }
+        catch (BulkOperationException error) {
+            result = error.getResult();
+            for (BulkWriteError writeError : error.getErrors()) {
+                errors.put(writeError.getIndex(), writeError.getMessage());
+            }
+        }
+        List<String> writtenContactIds = new ArrayList<>(contactIds.size());
+        for (int index = 0; index < contactIds.size(); index++) {
+            if (!errors.containsKey(index)) writtenContactIds.add(contactIds.get(index));
+        }
+        Set<String> matchedContactIds = result.getMatchedCount() == writtenContactIds.size() ? new HashSet<>(writtenContactIds) : findOwnedContactIds(writtenContactIds, ownerId);
+        return new BulkUpdateResult(matchedContactIds, errors);
+    }
+
+    @Override
+    public long deleteContacts(List<String> contactIds) {
+        if (contactIds.isEmpty()) return 0;
+        return mongoTemplate.remove(query(where("_id").in(contactIds)), Contact.class).getDeletedCount();
+    }
+
+    @Override
+    public List<Contact> deleteOwnedContacts(List<String> contactIds, String ownerId) {
+        if (contactIds.isEmpty()) return List.of();
+        return mongoTemplate.findAllAndRemove(query(where("_id").in(contactIds).and("ownerId").is(ownerId)), Contact.class);
+    }
+
+    @Override
+    public Set<String> findOwnedContactIds(List<String> contactIds, String ownerId) {
+        Set<String> ownedContactIds = new HashSet<>();
+        if (contactIds.isEmpty()) return ownedContactIds;
+        Query ownedContacts = query(where("ownerId").is(ownerId).and("_id").in(contactIds));
+        ownedContacts.fields().include("_id");
+        for (Contact contact : mongoTemplate.find(ownedContacts, Contact.class)) {
+            ownedContactIds.add(contact.getId());
+        }
+        return ownedContactIds;
+    }
+}
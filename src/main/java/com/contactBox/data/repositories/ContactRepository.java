@@ -1,7 +1,23 @@
 package com.contactBox.data.repositories;
 
 import com.contactBox.data.models.Contact;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
-public interface ContactRepository extends MongoRepository<Contact, String> {
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ContactRepository extends MongoRepository<Contact, String>, ContactOperations {
+    String EXPORT_FIELDS = "{ 'firstName' : 1, 'lastName' : 1, 'phoneNumber' : 1, 'email' : 1, 'address' : 1, 'notes' : 1 }";
+
+    List<Contact> findByOwnerIdOrderByIdAsc(String ownerId, Limit limit);
+
+    List<Contact> findByOwnerIdAndIdGreaterThanOrderByIdAsc(String ownerId, ObjectId id, Limit limit);
+
+    Stream<Contact> streamByOwnerIdOrderByIdAsc(String ownerId);
+
+    @Query(value = "{ 'ownerId' : ?0 }", fields = EXPORT_FIELDS, sort = "{ '_id' : 1 }")
+    Stream<Contact> streamExportByOwnerId(String ownerId);
 }
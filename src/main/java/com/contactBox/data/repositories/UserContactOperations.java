@@ -0,0 +1,17 @@
+package com.contactBox.data.repositories;
+
+import com.contactBox.data.models.Contact;
+
+import java.util.List;
+
+public interface UserContactOperations {
+    void pushContact(String userId, Contact contact);
+
+    void pullContact(String userId, String contactId);
+
+    void pushContacts(String userId, List<Contact> contacts);
+
+    void pullContacts(String userId, List<String> contactIds);
+
+    boolean pullContacts(String userId, Long expectedVersion, List<String> contactIds);
+}
@@ -0,0 +1,59 @@
+package com.contactBox.data.repositories;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.references.ContactReferences;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static com.contactBox.data.references.ContactReferences.CONTACTS_FIELD;
+import static com.contactBox.data.references.ContactReferences.toAllReferences;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class UserContactOperationsImplementation implements UserContactOperations {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ContactReferences contactReferences;
+
+    @Override
+    public void pushContact(String userId, Contact contact) {
+        Update update = new Update().push(CONTACTS_FIELD, contactReferences.toReference(contact.getId()));
+        mongoTemplate.updateFirst(query(where("_id").is(userId)), update, User.class);
+    }
+
+    @Override
+    public void pullContact(String userId, String contactId) {
+        pullContacts(userId, List.of(contactId));
+    }
+
+    @Override
+    public void pushContacts(String userId, List<Contact> contacts) {
+        if (contacts.isEmpty()) return;
+        Update update = new Update().push(CONTACTS_FIELD).each(contactReferences.toReferences(contacts).toArray());
+        mongoTemplate.updateFirst(query(where("_id").is(userId)), update, User.class);
+    }
+
+    @Override
+    public void pullContacts(String userId, List<String> contactIds) {
+        if (contactIds.isEmpty()) return;
+        mongoTemplate.updateFirst(query(where("_id").is(userId)), pullUpdate(contactIds), User.class);
+    }
+
+    @Override
+    public boolean pullContacts(String userId, Long expectedVersion, List<String> contactIds) {
+        if (contactIds.isEmpty()) return true;
+        return mongoTemplate.updateFirst(query(where("_id").is(userId).and("version").is(expectedVersion)), pullUpdate(contactIds), User.class).getMatchedCount() == 1;
+    }
+
+    private static Update pullUpdate(List<String> contactIds) {
+        return new Update().pull(CONTACTS_FIELD, new Document("$in", toAllReferences(contactIds)));
+    }
+}
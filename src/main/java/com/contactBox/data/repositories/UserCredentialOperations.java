@@ -0,0 +1,6 @@
+package com.contactBox.data.repositories;
+
+public interface UserCredentialOperations {
+
+    void updatePassword(String userId, String password);
+}
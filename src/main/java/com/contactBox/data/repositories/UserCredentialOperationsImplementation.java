@@ -0,0 +1,20 @@
+package com.contactBox.data.repositories;
+
+import com.contactBox.data.models.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class UserCredentialOperationsImplementation implements UserCredentialOperations {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void updatePassword(String userId, String password) {
+        mongoTemplate.updateFirst(query(where("_id").is(userId)), new Update().set("password", password), User.class);
+    }
+}
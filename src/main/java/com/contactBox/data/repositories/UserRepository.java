@@ -1,8 +1,19 @@
 package com.contactBox.data.repositories;
 
 import com.contactBox.data.models.User;
+import com.contactBox.data.models.UserCredentials;
+import org.springframework.data.mongodb.core.annotation.Collation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserContactOperations, UserCredentialOperations {
+    String USERNAME_COLLATION = "{ 'locale' : 'en', 'strength' : 2 }";
+
+    @Collation(USERNAME_COLLATION)
+    @Query("{ 'username' : ?0 }")
     User findByUsername(String username);
+
+    @Collation(USERNAME_COLLATION)
+    @Query("{ 'username' : ?0 }")
+    UserCredentials findCredentialsByUsername(String username);
 }
@@ -0,0 +1,21 @@
+package com.contactBox.data.repositories.reactive;
+
+import com.contactBox.data.models.BulkUpdateResult;
+import com.contactBox.data.models.Contact;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ReactiveContactOperations {
+    Mono<Contact> updateContact(String contactId, String ownerId, Update update);
+
+    Mono<Contact> deleteContact(String contactId, String ownerId);
+
+    Mono<BulkUpdateResult> updateContacts(List<String> contactIds, String ownerId, List<Update> updates);
+
+    Mono<Long> deleteContacts(List<String> contactIds);
+
+    Mono<Set<String>> findOwnedContactIds(List<String> contactIds, String ownerId);
+}
@@ -0,0 +1,83 @@
+package com.contactBox.data.repositories.reactive;
+
+import com.contactBox.data.models.BulkUpdateResult;
+import com.contactBox.data.models.Contact;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.DeleteResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactiveContactOperationsImplementation implements ReactiveContactOperations {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Contact> updateContact(String contactId, String ownerId, Update update) {
+        return reactiveMongoTemplate.findAndModify(query(where("_id").is(contactId).and("ownerId").is(ownerId)), update, FindAndModifyOptions.options().returnNew(true), Contact.class);
+    }
+
+    @Override
+    public Mono<Contact> deleteContact(String contactId, String ownerId) {
+        return reactiveMongoTemplate.findAndRemove(query(where("_id").is(contactId).and("ownerId").is(ownerId)), Contact.class);
+    }
+
+    @Override
+    public Mono<BulkUpdateResult> updateContacts(List<String> contactIds, String ownerId, List<Update> updates) {
+        if (contactIds.isEmpty()) return Mono.just(new BulkUpdateResult(new HashSet<>(), new HashMap<>()));
+        return Mono.defer(() -> {
+            ReactiveBulkOperations bulkOperations = reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Contact.class);
+            for (int index = 0; index < contactIds.size(); index++) {
+                bulkOperations.updateOne(query(where("_id").is(contactIds.get(index)).and("ownerId").is(ownerId)), updates.get(index).inc("version", 1));
+            }
+            Map<Integer, String> errors = new HashMap<>();
+            return bulkOperations.execute()
+                    .onErrorResume(MongoBulkWriteException.class, error -> {
+                        for (BulkWriteError writeError : error.getWriteErrors()) {
+                            errors.put(writeError.getIndex(), writeError.getMessage());
+                        }
+                        return Mono.just(error.getWriteResult());
+                    })
+                    .flatMap(result -> {
+                        List<String> writtenContactIds = new ArrayList<>(contactIds.size());
+                        for (int index = 0; index < contactIds.size(); index++) {
+                            if (!errors.containsKey(index)) writtenContactIds.add(contactIds.get(index));
+                        }
+                        Mono<Set<String>> matchedContactIds = result.getMatchedCount() == writtenContactIds.size() ? Mono.just(new HashSet<>(writtenContactIds)) : findOwnedContactIds(writtenContactIds, ownerId);
+                        return matchedContactIds.map(matched -> new BulkUpdateResult(matched, errors));
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Long> deleteContacts(List<String> contactIds) {
+        if (contactIds.isEmpty()) return Mono.just(0L);
+        return reactiveMongoTemplate.remove(query(where("_id").in(contactIds)), Contact.class).map(DeleteResult::getDeletedCount);
+    }
+
+    @Override
+    public Mono<Set<String>> findOwnedContactIds(List<String> contactIds, String ownerId) {
+        if (contactIds.isEmpty()) return Mono.just(new HashSet<>());
+        Query ownedContacts = query(where("ownerId").is(ownerId).and("_id").in(contactIds));
+        ownedContacts.fields().include("_id");
+        return reactiveMongoTemplate.find(ownedContacts, Contact.class).map(Contact::getId).collect(Collectors.toSet());
+    }
+}
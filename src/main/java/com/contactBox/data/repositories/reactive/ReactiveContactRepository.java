@@ -0,0 +1,22 @@
+package com.contactBox.data.repositories.reactive;
+
+import com.contactBox.data.models.Contact;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import static com.contactBox.data.repositories.ContactRepository.EXPORT_FIELDS;
+
+public interface ReactiveContactRepository extends ReactiveMongoRepository<Contact, String>, ReactiveContactOperations {
+
+    Flux<Contact> findByOwnerIdOrderByIdAsc(String ownerId, Limit limit);
+
+    Flux<Contact> findByOwnerIdAndIdGreaterThanOrderByIdAsc(String ownerId, ObjectId id, Limit limit);
+
+    Flux<Contact> streamByOwnerIdOrderByIdAsc(String ownerId);
+
+    @Query(value = "{ 'ownerId' : ?0 }", fields = EXPORT_FIELDS, sort = "{ '_id' : 1 }")
+    Flux<Contact> findExportByOwnerId(String ownerId);
+}
@@ -0,0 +1,18 @@
+package com.contactBox.data.repositories.reactive;
+
+import com.contactBox.data.models.Contact;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveUserContactOperations {
+    Mono<Void> pushContact(String userId, Contact contact);
+
+    Mono<Void> pullContact(String userId, String contactId);
+
+    Mono<Void> pushContacts(String userId, List<Contact> contacts);
+
+    Mono<Void> pullContacts(String userId, List<String> contactIds);
+
+    Mono<Boolean> pullContacts(String userId, Long expectedVersion, List<String> contactIds);
+}
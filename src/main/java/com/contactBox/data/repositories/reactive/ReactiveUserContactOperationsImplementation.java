@@ -0,0 +1,65 @@
+package com.contactBox.data.repositories.reactive;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.references.ContactReferences;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.contactBox.data.references.ContactReferences.CONTACTS_FIELD;
+import static com.contactBox.data.references.ContactReferences.toAllReferences;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactiveUserContactOperationsImplementation implements ReactiveUserContactOperations {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    private ContactReferences contactReferences;
+
+    @Override
+    public Mono<Void> pushContact(String userId, Contact contact) {
+        return Mono.defer(() -> {
+            Update update = new Update().push(CONTACTS_FIELD, contactReferences.toReference(contact.getId()));
+            return reactiveMongoTemplate.updateFirst(query(where("_id").is(userId)), update, User.class);
+        }).then();
+    }
+
+    @Override
+    public Mono<Void> pullContact(String userId, String contactId) {
+        return pullContacts(userId, List.of(contactId));
+    }
+
+    @Override
+    public Mono<Void> pushContacts(String userId, List<Contact> contacts) {
+        if (contacts.isEmpty()) return Mono.empty();
+        return Mono.defer(() -> {
+            Update update = new Update().push(CONTACTS_FIELD).each(contactReferences.toReferences(contacts).toArray());
+            return reactiveMongoTemplate.updateFirst(query(where("_id").is(userId)), update, User.class);
+        }).then();
+    }
+
+    @Override
+    public Mono<Void> pullContacts(String userId, List<String> contactIds) {
+        if (contactIds.isEmpty()) return Mono.empty();
+        return reactiveMongoTemplate.updateFirst(query(where("_id").is(userId)), pullUpdate(contactIds), User.class).then();
+    }
+
+    @Override
+    public Mono<Boolean> pullContacts(String userId, Long expectedVersion, List<String> contactIds) {
+        if (contactIds.isEmpty()) return Mono.just(true);
+        return reactiveMongoTemplate.updateFirst(query(where("_id").is(userId).and("version").is(expectedVersion)), pullUpdate(contactIds), User.class)
+                .map(result -> result.getMatchedCount() == 1);
+    }
+
+    private static Update pullUpdate(List<String> contactIds) {
+        return new Update().pull(CONTACTS_FIELD, new Document("$in", toAllReferences(contactIds)));
+    }
+}
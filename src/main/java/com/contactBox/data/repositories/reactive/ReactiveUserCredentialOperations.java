@@ -0,0 +1,8 @@
+package com.contactBox.data.repositories.reactive;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserCredentialOperations {
+
+    Mono<Void> updatePassword(String userId, String password);
+}
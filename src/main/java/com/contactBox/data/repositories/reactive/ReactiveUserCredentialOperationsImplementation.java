@@ -0,0 +1,21 @@
+package com.contactBox.data.repositories.reactive;
+
+import com.contactBox.data.models.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactiveUserCredentialOperationsImplementation implements ReactiveUserCredentialOperations {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> updatePassword(String userId, String password) {
+        return reactiveMongoTemplate.updateFirst(query(where("_id").is(userId)), new Update().set("password", password), User.class).then();
+    }
+}
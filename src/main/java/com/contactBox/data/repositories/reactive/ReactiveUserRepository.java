@@ -0,0 +1,21 @@
+package com.contactBox.data.repositories.reactive;
+
+import com.contactBox.data.models.User;
+import com.contactBox.data.models.UserCredentials;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+import static com.contactBox.data.repositories.UserRepository.USERNAME_COLLATION;
+
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String>, ReactiveUserContactOperations, ReactiveUserCredentialOperations {
+
+    @Collation(USERNAME_COLLATION)
+    @Query("{ 'username' : ?0 }")
+    Mono<User> findByUsername(String username);
+
+    @Collation(USERNAME_COLLATION)
+    @Query("{ 'username' : ?0 }")
+    Mono<UserCredentials> findCredentialsByUsername(String username);
+}
@@ -0,0 +1,75 @@
+package com.contactBox.data.search;
+
+import com.contactBox.data.models.Contact;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+public final class ContactNameIndex {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final TreeMap<String, List<Contact>> contactsByName = new TreeMap<>();
+
+    public ContactNameIndex(Collection<Contact> contacts) {
+        for (Contact contact : contacts) {
+            add(contact);
+        }
+    }
+
+    public void add(Contact contact) {
+        for (String name : namesOf(contact)) {
+            contactsByName.computeIfAbsent(name, key -> new ArrayList<>(1)).add(contact);
+        }
+    }
+
+    public void remove(Contact contact) {
+        for (String name : namesOf(contact)) {
+            List<Contact> contacts = contactsByName.get(name);
+            if (contacts == null) continue;
+            contacts.removeIf(indexedContact -> indexedContact == contact);
+            if (contacts.isEmpty()) contactsByName.remove(name);
+        }
+    }
+
+    public List<Contact> search(String name, int limit) {
+        String prefix = normalize(name);
+        List<Contact> matches = new ArrayList<>();
+        if (prefix == null || prefix.isEmpty()) return matches;
+        Set<Contact> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, List<Contact>> entry : contactsByName.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) break;
+            for (Contact contact : entry.getValue()) {
+                if (matched.add(contact)) matches.add(contact);
+                if (matches.size() == limit) return matches;
+            }
+        }
+        return matches;
+    }
+
+    public static String normalize(String name) {
+        if (name == null) return null;
+        String decomposed = Normalizer.normalize(name.trim(), Normalizer.Form.NFD);
+        String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutMarks).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> namesOf(Contact contact) {
+        List<String> names = new ArrayList<>(3);
+        String firstName = normalize(contact.getFirstName());
+        String lastName = normalize(contact.getLastName());
+        if (firstName != null && !firstName.isEmpty()) names.add(firstName);
+        if (lastName != null && !lastName.isEmpty() && !lastName.equals(firstName)) names.add(lastName);
+        if (names.size() == 2) names.add(firstName + " " + lastName);
+        return names;
+    }
+}
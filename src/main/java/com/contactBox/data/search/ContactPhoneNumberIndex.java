@@ -0,0 +1,70 @@
+package com.contactBox.data.search;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.contactBox.utilities.PhoneNumbers.*;
+
+public final class ContactPhoneNumberIndex {
+    private final Map<String, List<Contact>> contactsByPhoneNumber = new HashMap<>();
+    private final Map<String, List<Contact>> contactsBySuffix = new HashMap<>();
+    private final PhoneNumberCanonicalizer phoneNumberCanonicalizer;
+
+    public ContactPhoneNumberIndex(Collection<Contact> contacts, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        this.phoneNumberCanonicalizer = phoneNumberCanonicalizer;
+        for (Contact contact : contacts) {
+            add(contact);
+        }
+    }
+
+    public void add(Contact contact) {
+        String phoneNumber = canonicalPhoneNumberOf(contact);
+        if (phoneNumber == null) return;
+        contactsByPhoneNumber.computeIfAbsent(phoneNumber, key -> new ArrayList<>(1)).add(contact);
+        String suffix = suffixOf(phoneNumber);
+        if (suffix != null) contactsBySuffix.computeIfAbsent(suffix, key -> new ArrayList<>(1)).add(contact);
+    }
+
+    public void remove(Contact contact) {
+        String phoneNumber = canonicalPhoneNumberOf(contact);
+        if (phoneNumber == null) return;
+        removeFrom(contactsByPhoneNumber, phoneNumber, contact);
+        String suffix = suffixOf(phoneNumber);
+        if (suffix != null) removeFrom(contactsBySuffix, suffix, contact);
+    }
+
+    public List<Contact> search(String phoneNumber) {
+        String canonicalPhoneNumber = phoneNumberCanonicalizer.canonicalize(phoneNumber);
+        if (canonicalPhoneNumber == null) return new ArrayList<>();
+        return new ArrayList<>(contactsByPhoneNumber.getOrDefault(canonicalPhoneNumber, List.of()));
+    }
+
+    public List<Contact> searchBySuffix(String phoneNumber) {
+        String suffix = suffixOf(phoneNumber);
+        if (suffix == null) throw new IllegalArgumentException(String.format("Please enter at least the last %d digits of the phone number.", SUFFIX_LENGTH));
+        String digits = digitsOf(phoneNumber);
+        List<Contact> contacts = new ArrayList<>();
+        for (Contact contact : contactsBySuffix.getOrDefault(suffix, List.of())) {
+            if (canonicalPhoneNumberOf(contact).endsWith(digits)) contacts.add(contact);
+        }
+        return contacts;
+    }
+
+    private String canonicalPhoneNumberOf(Contact contact) {
+        if (contact.getCanonicalPhoneNumber() != null) return contact.getCanonicalPhoneNumber();
+        return phoneNumberCanonicalizer.canonicalize(contact.getPhoneNumber());
+    }
+
+    private static void removeFrom(Map<String, List<Contact>> index, String key, Contact contact) {
+        List<Contact> contacts = index.get(key);
+        if (contacts == null) return;
+        contacts.removeIf(indexedContact -> indexedContact == contact);
+        if (contacts.isEmpty()) index.remove(key);
+    }
+}
@@ -0,0 +1,54 @@
+package com.contactBox.data.sessions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+public class InMemorySessionStore implements SessionStore {
+
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger savesSincePurge = new AtomicInteger();
+    private final LongSupplier clock;
+
+    public InMemorySessionStore() {
+        this(System::currentTimeMillis);
+    }
+
+    public InMemorySessionStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(Session session) {
+        sessions.put(session.token(), session);
+        if (savesSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            savesSincePurge.set(0);
+            long now = clock.getAsLong();
+            sessions.values().removeIf(storedSession -> storedSession.isExpired(now));
+        }
+    }
+
+    @Override
+    public Session find(String token) {
+        if (token == null) return null;
+        Session session = sessions.get(token);
+        if (session == null) return null;
+        if (!session.isExpired(clock.getAsLong())) return session;
+        sessions.remove(token, session);
+        return null;
+    }
+
+    @Override
+    public Session remove(String token) {
+        if (token == null) return null;
+        Session session = sessions.remove(token);
+        return session == null || session.isExpired(clock.getAsLong()) ? null : session;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
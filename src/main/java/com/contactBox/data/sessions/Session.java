@@ -0,0 +1,8 @@
+package com.contactBox.data.sessions;
+
+public record Session(String token, String userId, String username, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
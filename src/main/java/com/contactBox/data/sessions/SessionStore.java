@@ -0,0 +1,10 @@
+package com.contactBox.data.sessions;
+
+public interface SessionStore {
+
+    void save(Session session);
+
+    Session find(String token);
+
+    Session remove(String token);
+}
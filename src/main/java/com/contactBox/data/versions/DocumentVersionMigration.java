@@ -0,0 +1,41 @@
+package com.contactBox.data.versions;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DocumentVersionMigration implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentVersionMigration.class);
+    private static final String VERSION_FIELD = "version";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${contactbox.versions.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!backfillOnStartup) return;
+        long versionedUsers = backfillVersions(User.class);
+        long versionedContacts = backfillVersions(Contact.class);
+        if (versionedUsers + versionedContacts > 0) LOGGER.info("Set the version of {} users and {} contacts.", versionedUsers, versionedContacts);
+    }
+
+    public long backfillVersions(Class<?> entityClass) {
+        Query unversioned = new Query(Criteria.where(VERSION_FIELD).exists(false));
+        return mongoTemplate.updateMulti(unversioned, new Update().set(VERSION_FIELD, 0L), entityClass).getModifiedCount();
+    }
+}
@@ -0,0 +1,13 @@
+package com.contactBox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkDeleteContactRequest {
+    private String username;
+    private String token;
+    private String password;
+    private List<String> contactIds;
+}
@@ -0,0 +1,12 @@
+package com.contactBox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkUpdateContactRequest {
+    private String username;
+    private String token;
+    private List<UpdateContactRequest> contacts;
+}
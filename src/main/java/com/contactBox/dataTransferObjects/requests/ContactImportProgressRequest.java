@@ -0,0 +1,9 @@
+package com.contactBox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class ContactImportProgressRequest {
+    private String username;
+    private String token;
+}
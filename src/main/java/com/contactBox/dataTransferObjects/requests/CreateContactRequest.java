@@ -6,6 +6,7 @@ import lombok.Data;
 @Data
 public class CreateContactRequest {
     private String username;
+    private String token;
     private String firstName;
     private String lastName;
     private String email;
@@ -5,6 +5,7 @@ import lombok.Data;
 @Data
 public class DeleteContactRequest {
     private String username;
+    private String token;
     private String contactId;
     private String password;
 }
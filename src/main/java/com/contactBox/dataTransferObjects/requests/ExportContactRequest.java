@@ -0,0 +1,11 @@
+package com.contactBox.dataTransferObjects.requests;
+
+import com.contactBox.utilities.ContactFileFormat;
+import lombok.Data;
+
+@Data
+public class ExportContactRequest {
+    private String username;
+    private String token;
+    private ContactFileFormat format;
+}
@@ -5,4 +5,7 @@ import lombok.Data;
 @Data
 public class FindAllContactRequest {
     private String username;
+    private String token;
+    private Integer limit;
+    private String cursor;
 }
@@ -5,5 +5,6 @@ import lombok.Data;
 @Data
 public class FindContactByIdRequest {
     private String username;
+    private String token;
     private String contactId;
 }
@@ -5,5 +5,7 @@ import lombok.Data;
 @Data
 public class FindContactByNameRequest {
     private String username;
+    private String token;
     private String name;
+    private Integer limit;
 }
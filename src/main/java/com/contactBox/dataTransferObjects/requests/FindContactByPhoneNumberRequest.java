@@ -5,5 +5,7 @@ import lombok.Data;
 @Data
 public class FindContactByPhoneNumberRequest {
     private String username;
+    private String token;
     private String phoneNumber;
+    private boolean suffixMatch;
 }
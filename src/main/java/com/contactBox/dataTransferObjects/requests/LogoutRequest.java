@@ -5,4 +5,5 @@ import lombok.Data;
 @Data
 public class LogoutRequest {
     private String username;
+    private String token;
 }
@@ -5,6 +5,7 @@ import lombok.Data;
 @Data
 public class UpdateContactRequest {
     private String username;
+    private String token;
     private String id;
     private String firstName;
     private String lastName;
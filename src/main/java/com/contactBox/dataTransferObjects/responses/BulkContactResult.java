@@ -0,0 +1,11 @@
+package com.contactBox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class BulkContactResult {
+    private int index;
+    private boolean isSuccessful;
+    private String contactId;
+    private String message;
+}
@@ -0,0 +1,14 @@
+package com.contactBox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkDeleteContactResponse {
+    private String userId;
+    private String username;
+    private int deletedCount;
+    private int failedCount;
+    private List<BulkContactResult> results;
+}
@@ -0,0 +1,14 @@
+package com.contactBox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkUpdateContactResponse {
+    private String userId;
+    private String username;
+    private int updatedCount;
+    private int failedCount;
+    private List<BulkContactResult> results;
+}
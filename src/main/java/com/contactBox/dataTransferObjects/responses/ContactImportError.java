@@ -0,0 +1,9 @@
+package com.contactBox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class ContactImportError {
+    private int recordNumber;
+    private String message;
+}
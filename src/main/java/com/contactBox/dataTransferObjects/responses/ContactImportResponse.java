@@ -0,0 +1,17 @@
+package com.contactBox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ContactImportResponse {
+    private String userId;
+    private String username;
+    private String format;
+    private String status;
+    private int processedCount;
+    private int importedCount;
+    private int failedCount;
+    private List<ContactImportError> errors;
+}
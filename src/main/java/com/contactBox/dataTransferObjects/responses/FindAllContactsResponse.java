@@ -10,4 +10,5 @@ public class FindAllContactsResponse {
     private String userId;
     private String username;
     private List<Contact> contacts;
+    private String nextCursor;
 }
@@ -7,4 +7,5 @@ import lombok.Data;
 public class LoginResponse {
     private String userId;
     private String username;
+    private String token;
 }
@@ -6,5 +6,6 @@ import lombok.Data;
 public class SignUpResponse {
     private String userId;
     private String username;
+    private String token;
     private String dateOfRegistration;
 }
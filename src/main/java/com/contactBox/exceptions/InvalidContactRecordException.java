@@ -0,0 +1,7 @@
+package com.contactBox.exceptions;
+
+public class InvalidContactRecordException extends RuntimeException{
+    public InvalidContactRecordException(String message) {
+        super(message);
+    }
+}
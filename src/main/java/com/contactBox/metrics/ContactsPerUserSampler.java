@@ -0,0 +1,74 @@
+package com.contactBox.metrics;
+
+import com.contactBox.data.models.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.contactBox.data.references.ContactReferences.CONTACTS_FIELD;
+import static com.contactBox.metrics.MetricsConfiguration.CONTACTS_PER_USER;
+
+public class ContactsPerUserSampler implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactsPerUserSampler.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final DistributionSummary contactsPerUser;
+    private final Duration interval;
+    private final int sampleSize;
+    private ScheduledExecutorService samplingExecutor;
+
+    public ContactsPerUserSampler(MongoTemplate mongoTemplate, MeterRegistry meterRegistry, Duration interval, int sampleSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.contactsPerUser = DistributionSummary.builder(CONTACTS_PER_USER).baseUnit("contacts").register(meterRegistry);
+        this.interval = interval;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (interval.isZero() || interval.isNegative() || sampleSize < 1) return;
+        samplingExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("contacts-per-user-sampler").daemon(true).factory());
+        samplingExecutor.scheduleWithFixedDelay(this::sampleQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (samplingExecutor != null) samplingExecutor.shutdownNow();
+    }
+
+    public int sample() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.sample(sampleSize),
+                Aggregation.project().and(ArrayOperators.Size.lengthOfArray(ConditionalOperators.ifNull(CONTACTS_FIELD).then(List.of()))).as("contactCount"));
+        List<Document> users = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(User.class), Document.class).getMappedResults();
+        for (Document user : users) {
+            contactsPerUser.record(user.get("contactCount", Number.class).doubleValue());
+        }
+        return users.size();
+    }
+
+    private void sampleQuietly() {
+        try {
+            sample();
+        }
+        catch (DataAccessException error) {
+            LOGGER.warn("Could not sample contacts per user.", error);
+        }
+    }
+}
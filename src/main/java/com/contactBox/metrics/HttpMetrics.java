@@ -0,0 +1,52 @@
+package com.contactBox.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class HttpMetrics {
+
+    public static final String REQUESTS = "contactbox.http.requests";
+    public static final String ERRORS = "contactbox.http.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<RouteKey, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+
+    public HttpMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String method, String route, int status, long elapsedNanos) {
+        RouteKey routeKey = new RouteKey(method, route, status);
+        RouteMeters meters = routeMeters.get(routeKey);
+        if (meters == null) meters = routeMeters.computeIfAbsent(routeKey, this::register);
+        meters.requests().record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (meters.errors() != null) meters.errors().increment();
+    }
+
+    private RouteMeters register(RouteKey routeKey) {
+        String statusTag = Integer.toString(routeKey.status());
+        Timer requests = Timer.builder(REQUESTS)
+                .tag("method", routeKey.method())
+                .tag("route", routeKey.route())
+                .tag("status", statusTag)
+                .register(meterRegistry);
+        if (routeKey.status() < 400) return new RouteMeters(requests, null);
+        Counter errors = Counter.builder(ERRORS)
+                .tag("method", routeKey.method())
+                .tag("route", routeKey.route())
+                .tag("status", statusTag)
+                .register(meterRegistry);
+        return new RouteMeters(requests, errors);
+    }
+
+    private record RouteKey(String method, String route, int status) {
+    }
+
+    private record RouteMeters(Timer requests, Counter errors) {
+    }
+}
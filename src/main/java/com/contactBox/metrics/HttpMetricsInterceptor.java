@@ -0,0 +1,32 @@
+package com.contactBox.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class HttpMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = HttpMetricsInterceptor.class.getName() + ".startedAt";
+
+    private final HttpMetrics httpMetrics;
+
+    public HttpMetricsInterceptor(HttpMetrics httpMetrics) {
+        this.httpMetrics = httpMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(STARTED_AT) == null) request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception error) {
+        Object startedAt = request.getAttribute(STARTED_AT);
+        if (startedAt == null) return;
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        int status = error != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        httpMetrics.record(request.getMethod(), route == null ? "UNKNOWN" : route.toString(), status, System.nanoTime() - (long) startedAt);
+    }
+}
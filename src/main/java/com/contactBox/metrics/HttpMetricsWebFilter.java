@@ -0,0 +1,34 @@
+package com.contactBox.metrics;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+public class HttpMetricsWebFilter implements WebFilter {
+
+    private final HttpMetrics httpMetrics;
+
+    public HttpMetricsWebFilter(HttpMetrics httpMetrics) {
+        this.httpMetrics = httpMetrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startedAt = System.nanoTime();
+        return chain.filter(exchange).doOnEach(signal -> {
+            if (signal.isOnComplete() || signal.isOnError()) record(exchange, signal.isOnError(), startedAt);
+        }).doOnCancel(() -> record(exchange, false, startedAt));
+    }
+
+    private void record(ServerWebExchange exchange, boolean failed, long startedAt) {
+        PathPattern route = exchange.getAttribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE);
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode == null ? 200 : statusCode.value();
+        if (failed && status < 400) status = 500;
+        httpMetrics.record(exchange.getRequest().getMethod().name(), route == null ? "UNKNOWN" : route.getPatternString(), status, System.nanoTime() - startedAt);
+    }
+}
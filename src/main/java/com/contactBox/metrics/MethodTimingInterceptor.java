@@ -0,0 +1,81 @@
+package com.contactBox.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.contactBox.utilities.Futures.unwrap;
+
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String metricName;
+    private final String component;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodTimingInterceptor(MeterRegistry meterRegistry, String metricName, String component) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.component = component;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) return invocation.proceed();
+        long startedAt = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            if (result instanceof CompletableFuture<?> future) return future.whenComplete((value, error) -> record(method, error == null ? null : unwrap(error), startedAt));
+            if (result instanceof Mono<?> mono) return timed(method, mono);
+            if (result instanceof Flux<?> flux) return timed(method, flux);
+            record(method, null, startedAt);
+            return result;
+        }
+        catch (Throwable error) {
+            record(method, error, startedAt);
+            throw error;
+        }
+    }
+
+    private Mono<?> timed(Method method, Mono<?> mono) {
+        return Mono.defer(() -> {
+            long subscribedAt = System.nanoTime();
+            return mono.doOnSuccess(value -> record(method, null, subscribedAt))
+                    .doOnError(error -> record(method, error, subscribedAt));
+        });
+    }
+
+    private Flux<?> timed(Method method, Flux<?> flux) {
+        return Flux.defer(() -> {
+            long subscribedAt = System.nanoTime();
+            return flux.doOnComplete(() -> record(method, null, subscribedAt))
+                    .doOnError(error -> record(method, error, subscribedAt));
+        });
+    }
+
+    private void record(Method method, Throwable error, long startedAt) {
+        Timer timer = timers.computeIfAbsent(new TimerKey(method, error == null ? null : error.getClass()), this::timer);
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder(metricName)
+                .tag("component", component)
+                .tag("method", key.method().getName())
+                .tag("exception", key.exception() == null ? "none" : key.exception().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Method method, Class<? extends Throwable> exception) {
+    }
+}
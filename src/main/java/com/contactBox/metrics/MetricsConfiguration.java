@@ -0,0 +1,108 @@
+package com.contactBox.metrics;
+
+import com.contactBox.data.cache.UserCache;
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.data.repositories.reactive.ReactiveContactRepository;
+import com.contactBox.data.repositories.reactive.ReactiveUserRepository;
+import com.contactBox.security.PasswordHasher;
+import com.contactBox.services.ContactService;
+import com.contactBox.services.ReactiveContactService;
+import com.contactBox.services.ReactiveUserService;
+import com.contactBox.services.UserService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "contactbox.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfiguration {
+
+    public static final String SERVICE_CALLS = "contactbox.service.calls";
+    public static final String REPOSITORY_CALLS = "contactbox.repository.calls";
+    public static final String CONTACTS_PER_USER = "contactbox.user.contacts";
+    public static final MediaType PROMETHEUS = MediaType.parseMediaType(TextFormat.CONTENT_TYPE_004);
+
+    private static final List<Class<?>> SERVICES = List.of(UserService.class, ContactService.class, ReactiveUserService.class, ReactiveContactService.class);
+    private static final List<Class<?>> REPOSITORIES = List.of(UserRepository.class, ContactRepository.class, ReactiveUserRepository.class, ReactiveContactRepository.class);
+
+    @Bean
+    public PrometheusMeterRegistry prometheusMeterRegistry(@Value("${contactbox.metrics.percentiles:0.5,0.95,0.99}") double[] percentiles,
+                                                           @Value("${contactbox.metrics.percentile-histogram:false}") boolean percentileHistogram,
+                                                           UserCache userCache, PasswordHasher passwordHasher) {
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith("contactbox.")) return config;
+                return DistributionStatisticConfig.builder().percentiles(percentiles).percentilesHistogram(percentileHistogram).build().merge(config);
+            }
+        });
+        bindUserCache(meterRegistry, userCache);
+        bindPasswordHasher(meterRegistry, passwordHasher);
+        return meterRegistry;
+    }
+
+    @Bean
+    public ContactsPerUserSampler contactsPerUserSampler(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                                                         @Value("${contactbox.metrics.contacts-per-user.interval:5m}") Duration interval,
+                                                         @Value("${contactbox.metrics.contacts-per-user.sample-size:1000}") int sampleSize) {
+        return new ContactsPerUserSampler(mongoTemplate, meterRegistry, interval, sampleSize);
+    }
+
+    @Bean
+    public static BeanPostProcessor methodTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                for (Class<?> service : SERVICES) {
+                    if (service.isInstance(bean)) return timed(bean, service, SERVICE_CALLS, meterRegistry.getObject());
+                }
+                for (Class<?> repository : REPOSITORIES) {
+                    if (repository.isInstance(bean)) return timed(bean, repository, REPOSITORY_CALLS, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Object timed(Object bean, Class<?> type, String metricName, MeterRegistry meterRegistry) {
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setInterfaces(type);
+        proxyFactory.addAdvice(new MethodTimingInterceptor(meterRegistry, metricName, type.getSimpleName()));
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+
+    private static void bindUserCache(MeterRegistry meterRegistry, UserCache userCache) {
+        Gauge.builder("contactbox.user_cache.size", userCache, cache -> cache.stats().size()).register(meterRegistry);
+        FunctionCounter.builder("contactbox.user_cache.gets", userCache, cache -> cache.stats().hitCount()).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("contactbox.user_cache.gets", userCache, cache -> cache.stats().missCount()).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("contactbox.user_cache.evictions", userCache, cache -> cache.stats().evictionCount()).register(meterRegistry);
+        FunctionCounter.builder("contactbox.user_cache.expirations", userCache, cache -> cache.stats().expirationCount()).register(meterRegistry);
+    }
+
+    private static void bindPasswordHasher(MeterRegistry meterRegistry, PasswordHasher passwordHasher) {
+        Gauge.builder("contactbox.password_hasher.active", passwordHasher, hasher -> hasher.stats().activeCount()).register(meterRegistry);
+        Gauge.builder("contactbox.password_hasher.queued", passwordHasher, hasher -> hasher.stats().queueSize()).register(meterRegistry);
+        FunctionCounter.builder("contactbox.password_hasher.completed", passwordHasher, hasher -> hasher.stats().completedCount()).register(meterRegistry);
+        FunctionCounter.builder("contactbox.password_hasher.rejected", passwordHasher, hasher -> hasher.stats().rejectedCount()).register(meterRegistry);
+    }
+}
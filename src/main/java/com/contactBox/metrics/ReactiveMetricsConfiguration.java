@@ -0,0 +1,32 @@
+package com.contactBox.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static com.contactBox.metrics.MetricsConfiguration.PROMETHEUS;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "contactbox.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveMetricsConfiguration {
+
+    @Bean
+    public HttpMetricsWebFilter httpMetricsWebFilter(MeterRegistry meterRegistry) {
+        return new HttpMetricsWebFilter(new HttpMetrics(meterRegistry));
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> metricsRoute(PrometheusMeterRegistry prometheusMeterRegistry, @Value("${contactbox.metrics.path:/metrics}") String path) {
+        return RouterFunctions.route()
+                .GET(path, request -> ServerResponse.ok().contentType(PROMETHEUS).bodyValue(prometheusMeterRegistry.scrape()))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.contactBox.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static com.contactBox.metrics.MetricsConfiguration.PROMETHEUS;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "contactbox.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ServletMetricsConfiguration implements WebMvcConfigurer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HttpMetricsInterceptor(new HttpMetrics(meterRegistry)));
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> metricsRoute(PrometheusMeterRegistry prometheusMeterRegistry, @Value("${contactbox.metrics.path:/metrics}") String path) {
+        return RouterFunctions.route()
+                .GET(path, request -> ServerResponse.ok().contentType(PROMETHEUS).body(prometheusMeterRegistry.scrape()))
+                .build();
+    }
+}
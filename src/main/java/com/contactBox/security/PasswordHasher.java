@@ -0,0 +1,171 @@
+package com.contactBox.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHasher implements InitializingBean, DisposableBean {
+
+    public static final String HASH_PREFIX = "pbkdf2-sha256$";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordHasher.class);
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final int MIN_ITERATIONS = 10_000;
+    private static final int MAX_ITERATIONS = 10_000_000;
+    private static final int CALIBRATION_ITERATIONS = 20_000;
+    private static final int CALIBRATION_ROUNDS = 5;
+
+    @Value("${contactbox.passwords.target-latency:100ms}")
+    private Duration targetLatency;
+
+    @Value("${contactbox.passwords.iterations:0}")
+    private int iterations;
+
+    @Value("${contactbox.passwords.pool-size:0}")
+    private int poolSize;
+
+    @Value("${contactbox.passwords.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor hashingExecutor;
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+
+    @Override
+    public void afterPropertiesSet() {
+        if (poolSize < 1) poolSize = Runtime.getRuntime().availableProcessors();
+        hashingExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hasher-", 1).daemon(true).factory());
+        if (iterations < 1) iterations = calibrate();
+        LOGGER.info("Hashing passwords with {} PBKDF2 iterations on {} threads.", iterations, poolSize);
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdownNow();
+    }
+
+    public CompletableFuture<String> hashAsync(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        int hashIterations = iterations;
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return submit(() -> pbkdf2(password, salt, hashIterations))
+                .thenApply(hash -> HASH_PREFIX + hashIterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash));
+    }
+
+    public CompletableFuture<Boolean> verifyAsync(String password, String storedPassword) {
+        if (password == null || storedPassword == null) return CompletableFuture.completedFuture(false);
+        if (!isHashed(storedPassword)) return CompletableFuture.completedFuture(MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8)));
+        StoredHash storedHash = parseStoredHash(storedPassword);
+        if (storedHash == null) return CompletableFuture.completedFuture(false);
+        return submit(() -> pbkdf2(password, storedHash.salt(), storedHash.iterations())).thenApply(hash -> MessageDigest.isEqual(hash, storedHash.hash()));
+    }
+
+    public boolean needsRehash(String storedPassword) {
+        if (!isHashed(storedPassword)) return true;
+        StoredHash storedHash = parseStoredHash(storedPassword);
+        return storedHash != null && storedHash.iterations() < iterations;
+    }
+
+    public static boolean isHashed(String storedPassword) {
+        return storedPassword != null && storedPassword.startsWith(HASH_PREFIX);
+    }
+
+    public PasswordHasherStats stats() {
+        long completed = completedCount.sum();
+        return new PasswordHasherStats(iterations, poolSize, hashingExecutor.getActiveCount(), hashingExecutor.getQueue().size(), completed, rejectedCount.sum(),
+                completed == 0 ? 0 : totalQueueNanos.sum() / completed / 1_000_000.0,
+                completed == 0 ? 0 : totalHashNanos.sum() / completed / 1_000_000.0);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                totalQueueNanos.add(startedAt - submittedAt);
+                try {
+                    return task.get();
+                }
+                finally {
+                    totalHashNanos.add(System.nanoTime() - startedAt);
+                    completedCount.increment();
+                }
+            }, hashingExecutor);
+        }
+        catch (RejectedExecutionException error) {
+            rejectedCount.increment();
+            throw new IllegalStateException("Server is busy. Please try again.");
+        }
+    }
+
+    private static StoredHash parseStoredHash(String storedPassword) {
+        String[] parts = storedPassword.substring(HASH_PREFIX.length()).split("\\$");
+        if (parts.length != 3) return null;
+        try {
+            StoredHash storedHash = new StoredHash(Integer.parseInt(parts[0]), Base64.getDecoder().decode(parts[1]), Base64.getDecoder().decode(parts[2]));
+            return storedHash.iterations() < 1 || storedHash.salt().length == 0 || storedHash.hash().length == 0 ? null : storedHash;
+        }
+        catch (IllegalArgumentException error) {
+            return null;
+        }
+    }
+
+    private int calibrate() {
+        long bestNanos = Long.MAX_VALUE;
+        byte[] salt = new byte[SALT_BYTES];
+        for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            pbkdf2("calibration", salt, CALIBRATION_ITERATIONS);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startedAt);
+        }
+        long calibratedIterations = targetLatency.toNanos() * CALIBRATION_ITERATIONS / Math.max(bestNanos, 1);
+        return Math.clamp(calibratedIterations / 1000 * 1000, MIN_ITERATIONS, MAX_ITERATIONS);
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(keySpec).getEncoded();
+        }
+        catch (GeneralSecurityException error) {
+            throw new IllegalStateException(error);
+        }
+        finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    private record StoredHash(int iterations, byte[] salt, byte[] hash) {
+    }
+
+    public record PasswordHasherStats(int iterations, int poolSize, int activeCount, int queueSize, long completedCount, long rejectedCount,
+                                      double averageQueueMillis, double averageHashMillis) {
+    }
+}
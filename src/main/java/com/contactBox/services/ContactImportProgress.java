@@ -0,0 +1,83 @@
+package com.contactBox.services;
+
+import com.contactBox.data.models.User;
+import com.contactBox.dataTransferObjects.responses.ContactImportError;
+import com.contactBox.utilities.ContactFileFormat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.contactBox.utilities.Mappers.contactImportErrorMap;
+
+public class ContactImportProgress {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final User user;
+    private final ContactFileFormat format;
+    private final AtomicInteger processedCount = new AtomicInteger();
+    private final AtomicInteger importedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final Queue<ContactImportError> errors = new ConcurrentLinkedQueue<>();
+    private volatile Status status = Status.RUNNING;
+
+    public ContactImportProgress(User user, ContactFileFormat format) {
+        this.user = user;
+        this.format = format;
+    }
+
+    public void recordImported(int contacts) {
+        importedCount.addAndGet(contacts);
+        processedCount.addAndGet(contacts);
+    }
+
+    public void recordFailed(int recordNumber, String message) {
+        if (failedCount.incrementAndGet() <= MAX_REPORTED_ERRORS) errors.add(contactImportErrorMap(recordNumber, message));
+        processedCount.incrementAndGet();
+    }
+
+    public void complete() {
+        if (status == Status.RUNNING) status = Status.COMPLETED;
+    }
+
+    public void fail(int recordNumber, String message) {
+        errors.add(contactImportErrorMap(recordNumber, message));
+        status = Status.FAILED;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public ContactFileFormat getFormat() {
+        return format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getProcessedCount() {
+        return processedCount.get();
+    }
+
+    public int getImportedCount() {
+        return importedCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    public List<ContactImportError> getErrors() {
+        List<ContactImportError> sortedErrors = new ArrayList<>(errors);
+        sortedErrors.sort(Comparator.comparingInt(ContactImportError::getRecordNumber));
+        return sortedErrors;
+    }
+}
@@ -0,0 +1,18 @@
+package com.contactBox.services;
+
+import com.contactBox.dataTransferObjects.requests.ContactImportProgressRequest;
+import com.contactBox.dataTransferObjects.responses.ContactImportResponse;
+import com.contactBox.utilities.ContactFileFormat;
+
+import java.io.InputStream;
+
+public interface ContactImportService {
+
+    // The request body is the streamed contact file, so unlike the JSON endpoints the import
+    // takes its session token from this header and the username and format from query parameters.
+    String SESSION_TOKEN_HEADER = "X-Session-Token";
+
+    ContactImportResponse importContacts(String username, String token, ContactFileFormat format, InputStream inputStream);
+
+    ContactImportResponse findImportProgress(ContactImportProgressRequest contactImportProgressRequest);
+}
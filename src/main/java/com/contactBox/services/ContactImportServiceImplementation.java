@@ -0,0 +1,186 @@
+package com.contactBox.services;
+
+import com.contactBox.data.cache.UserCache;
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.data.sessions.Session;
+import com.contactBox.dataTransferObjects.requests.ContactImportProgressRequest;
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.dataTransferObjects.responses.ContactImportResponse;
+import com.contactBox.exceptions.InvalidContactRecordException;
+import com.contactBox.exceptions.UserNotFoundException;
+import com.contactBox.utilities.ContactFileFormat;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static com.contactBox.utilities.ContactReaders.readContacts;
+import static com.contactBox.utilities.Mappers.contactImportResponseMap;
+import static com.contactBox.utilities.Mappers.createContactRequestMap;
+
+@Service
+public class ContactImportServiceImplementation implements ContactImportService, InitializingBean, DisposableBean {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PhoneNumberCanonicalizer phoneNumberCanonicalizer;
+
+    @Value("${contactbox.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${contactbox.import.parallelism:0}")
+    private int parallelism;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean isVirtualThreadsEnabled;
+
+    private ExecutorService importExecutor;
+
+    private final Map<String, ContactImportProgress> runningImports = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        if (batchSize < 1) throw new IllegalArgumentException("contactbox.import.batch-size must be at least 1.");
+        if (parallelism < 1) parallelism = Runtime.getRuntime().availableProcessors();
+        importExecutor = isVirtualThreadsEnabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("contact-import-", 1).factory())
+                : Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("contact-import-", 1).daemon(true).factory());
+    }
+
+    @Override
+    public void destroy() {
+        importExecutor.shutdownNow();
+    }
+
+    @Override
+    public ContactImportResponse importContacts(String username, String token, ContactFileFormat format, InputStream inputStream) {
+        Session session = sessionService.validateSession(token, username, "Please login to import contacts.");
+        if (format == null) throw new IllegalArgumentException("Please enter a valid import format.");
+        User user = userCache.findByUsername(session.username(), userRepository::findByUsername);
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username()));
+        ContactImportProgress progress = new ContactImportProgress(user, format);
+        if (runningImports.putIfAbsent(user.getUsername(), progress) != null) throw new IllegalArgumentException("An import is already running. Please try again later.");
+        int maxBatchesInFlight = parallelism * 2;
+        Semaphore batchPermits = new Semaphore(maxBatchesInFlight);
+        int recordNumber = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            Iterator<CreateContactRequest> records = readContacts(reader, format);
+            List<ImportRecord> batch = new ArrayList<>(batchSize);
+            while (records.hasNext()) {
+                recordNumber++;
+                try {
+                    batch.add(new ImportRecord(recordNumber, records.next()));
+                }
+                catch (InvalidContactRecordException error) {
+                    progress.recordFailed(recordNumber, error.getMessage());
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    submitBatch(batch, progress, batchPermits);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) submitBatch(batch, progress, batchPermits);
+        }
+        catch (IOException | UncheckedIOException | IllegalArgumentException error) {
+            progress.fail(recordNumber + 1, error.getMessage());
+        }
+        catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            progress.fail(recordNumber + 1, "Import was interrupted. Please try again.");
+        }
+        finally {
+            batchPermits.acquireUninterruptibly(maxBatchesInFlight);
+            runningImports.remove(user.getUsername(), progress);
+            userCache.evict(user.getUsername());
+        }
+        progress.complete();
+        return contactImportResponseMap(progress);
+    }
+
+    @Override
+    public ContactImportResponse findImportProgress(ContactImportProgressRequest contactImportProgressRequest) {
+        Session session = sessionService.validateSession(contactImportProgressRequest.getToken(), contactImportProgressRequest.getUsername(), "Please login to view import progress.");
+        ContactImportProgress progress = runningImports.get(session.username());
+        if (progress == null) throw new IllegalArgumentException(String.format("No import is running for %s.", contactImportProgressRequest.getUsername()));
+        return contactImportResponseMap(progress);
+    }
+
+    private void submitBatch(List<ImportRecord> batch, ContactImportProgress progress, Semaphore batchPermits) throws InterruptedException {
+        batchPermits.acquire();
+        try {
+            importExecutor.execute(() -> {
+                try {
+                    importBatch(batch, progress);
+                }
+                finally {
+                    batchPermits.release();
+                }
+            });
+        }
+        catch (RejectedExecutionException error) {
+            batchPermits.release();
+            throw new IllegalArgumentException("Import service is shutting down. Please try again later.");
+        }
+    }
+
+    private void importBatch(List<ImportRecord> batch, ContactImportProgress progress) {
+        User user = progress.getUser();
+        List<Contact> contacts = new ArrayList<>(batch.size());
+        List<Integer> recordNumbers = new ArrayList<>(batch.size());
+        for (ImportRecord importRecord : batch) {
+            try {
+                contacts.add(createContactRequestMap(importRecord.createContactRequest(), user, phoneNumberCanonicalizer));
+                recordNumbers.add(importRecord.recordNumber());
+            }
+            catch (IllegalArgumentException error) {
+                progress.recordFailed(importRecord.recordNumber(), error.getMessage());
+            }
+        }
+        if (contacts.isEmpty()) return;
+        try {
+            contactService.createContacts(contacts);
+            userRepository.pushContacts(user.getId(), contacts);
+            progress.recordImported(contacts.size());
+        }
+        catch (RuntimeException error) {
+            for (int recordNumber : recordNumbers) {
+                progress.recordFailed(recordNumber, "Contact could not be saved. Please try again.");
+            }
+        }
+    }
+
+    private record ImportRecord(int recordNumber, CreateContactRequest createContactRequest) {
+    }
+}
@@ -3,16 +3,33 @@ package com.contactBox.services;
 import com.contactBox.data.models.Contact;
 import com.contactBox.data.models.User;
 import com.contactBox.dataTransferObjects.requests.*;
-import com.contactBox.dataTransferObjects.responses.DeleteContactResponse;
+import com.contactBox.dataTransferObjects.responses.FindAllContactsResponse;
+
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ContactService {
-    Contact createContact(CreateContactRequest createContactRequest);
+    List<Contact> createContacts(List<Contact> contacts);
+
+    Contact updateContact(UpdateContactRequest updateContactRequest, String ownerId);
+
+    Map<Integer, String> updateContacts(List<String> contactIds, String ownerId, List<Update> updates);
+
+    FindAllContactsResponse findAllContacts(FindAllContactRequest findAllContactRequest, User user);
+
+    void deleteContacts(List<String> contactIds);
+
+    List<Contact> deleteOwnedContacts(List<String> contactIds, String ownerId);
+
+    Set<String> findOwnedContactIds(List<String> contactIds, String ownerId);
 
-    Contact updateContact(UpdateContactRequest updateContactRequest, User user);
+    Stream<Contact> streamAllContacts(String ownerId);
 
-    DeleteContactResponse deleteContact(DeleteContactRequest deleteContactRequest, User user);
+    Stream<Contact> streamContactsForExport(String ownerId);
 
     List<Contact> findContactByName(FindContactByNameRequest findContactByNameRequest, User user);
 
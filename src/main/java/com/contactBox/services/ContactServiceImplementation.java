@@ -4,68 +4,108 @@ import com.contactBox.data.models.Contact;
 import com.contactBox.data.models.User;
 import com.contactBox.data.repositories.ContactRepository;
 import com.contactBox.dataTransferObjects.requests.*;
-import com.contactBox.dataTransferObjects.responses.DeleteContactResponse;
+import com.contactBox.dataTransferObjects.responses.FindAllContactsResponse;
+import com.contactBox.exceptions.ContactNotFoundException;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import static com.contactBox.utilities.FindContact.findContactInUserList;
+import static com.contactBox.utilities.Cursors.decodeCursor;
+import static com.contactBox.utilities.Cursors.encodeCursor;
 import static com.contactBox.utilities.Mappers.*;
 
 @Service
 public class ContactServiceImplementation implements ContactService{
 
+    private static final int DEFAULT_SEARCH_LIMIT = 50;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private ContactRepository contactRepository;
 
+    @Autowired
+    private PhoneNumberCanonicalizer phoneNumberCanonicalizer;
+
+    @Override
+    public List<Contact> createContacts(List<Contact> contacts) {
+        if (contacts.isEmpty()) return contacts;
+        return contactRepository.insert(contacts);
+    }
+
     @Override
-    public Contact createContact(CreateContactRequest createContactRequest) {
-        Contact contact = createContactRequestMap(createContactRequest);
-        contactRepository.save(contact);
+    public Contact updateContact(UpdateContactRequest updateContactRequest, String ownerId) {
+        Update update = updateContactRequestUpdateMap(updateContactRequest, phoneNumberCanonicalizer);
+        Contact contact = contactRepository.updateContact(updateContactRequest.getId(), ownerId, update);
+        if (contact == null) throw new ContactNotFoundException("Contact does not exist. Please try again.");
         return contact;
     }
 
     @Override
-    public Contact updateContact(UpdateContactRequest updateContactRequest, User user) {
-        Contact contact = findContactInUserList(updateContactRequest.getId(), user);
-        Contact updatedContact = updateContactRequestMap(updateContactRequest, contact);
-        contactRepository.save(updatedContact);
-        return updatedContact;
+    public Map<Integer, String> updateContacts(List<String> contactIds, String ownerId, List<Update> updates) {
+        return bulkUpdateErrorsMap(contactIds, contactRepository.updateContacts(contactIds, ownerId, updates));
+    }
+
+    @Override
+    public FindAllContactsResponse findAllContacts(FindAllContactRequest findAllContactRequest, User user) {
+        int pageSize = findAllContactRequest.getLimit() == null ? DEFAULT_PAGE_SIZE : findAllContactRequest.getLimit();
+        if (pageSize < 1) throw new IllegalArgumentException("Page limit must be at least 1. Please enter a valid input.");
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Contact> contacts = findAllContactRequest.getCursor() == null
+                ? contactRepository.findByOwnerIdOrderByIdAsc(user.getId(), limit)
+                : contactRepository.findByOwnerIdAndIdGreaterThanOrderByIdAsc(user.getId(), decodeCursor(findAllContactRequest.getCursor()), limit);
+        String nextCursor = null;
+        if (contacts.size() > pageSize) {
+            contacts = contacts.subList(0, pageSize);
+            nextCursor = encodeCursor(contacts.getLast().getId());
+        }
+        return findAllContactsResponseMap(contacts, nextCursor, user);
+    }
+
+    @Override
+    public void deleteContacts(List<String> contactIds) {
+        contactRepository.deleteContacts(contactIds);
+    }
+
+    @Override
+    public List<Contact> deleteOwnedContacts(List<String> contactIds, String ownerId) {
+        return contactRepository.deleteOwnedContacts(contactIds, ownerId);
+    }
+
+    @Override
+    public Set<String> findOwnedContactIds(List<String> contactIds, String ownerId) {
+        return contactRepository.findOwnedContactIds(contactIds, ownerId);
+    }
+
+    @Override
+    public Stream<Contact> streamAllContacts(String ownerId) {
+        return contactRepository.streamByOwnerIdOrderByIdAsc(ownerId);
     }
 
     @Override
-    public DeleteContactResponse deleteContact(DeleteContactRequest deleteContactRequest, User user) {
-        Contact contact = findContactInUserList(deleteContactRequest.getContactId(), user);
-        DeleteContactResponse deleteContactResponse = deleteContactResponseMap(contact, user);
-        contactRepository.delete(contact);
-        return deleteContactResponse;
+    public Stream<Contact> streamContactsForExport(String ownerId) {
+        return contactRepository.streamExportByOwnerId(ownerId);
     }
 
     @Override
     public List<Contact> findContactByName(FindContactByNameRequest findContactByNameRequest, User user) {
-        List<Contact> contacts = new ArrayList<>();
-        for (int count = 0; count < user.getContacts().size(); count++) {
-            boolean isFirstNameExisting = user.getContacts().get(count).getFirstName().equals(findContactByNameRequest.getName().toLowerCase());
-            boolean isLastNameExisting = user.getContacts().get(count).getLastName().equals(findContactByNameRequest.getName().toLowerCase());
-            if (isFirstNameExisting || isLastNameExisting) {
-                contacts.add(user.getContacts().get(count));
-            }
-        }
-        return contacts;
+        int limit = findContactByNameRequest.getLimit() == null ? DEFAULT_SEARCH_LIMIT : findContactByNameRequest.getLimit();
+        if (limit < 1) throw new IllegalArgumentException("Search limit must be at least 1. Please enter a valid input.");
+        return user.getContacts().findByName(findContactByNameRequest.getName(), limit);
     }
 
     @Override
     public List<Contact> findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest, User user) {
-        List<Contact> contacts = new ArrayList<>();
-        for (int count = 0; count < user.getContacts().size(); count++) {
-            boolean isPhoneNumberExisting = user.getContacts().get(count).getPhoneNumber().equals(findContactByPhoneNumberRequest.getPhoneNumber());
-            if (isPhoneNumberExisting) {
-                contacts.add(user.getContacts().get(count));
-            }
-        }
-        return contacts;
+        if (findContactByPhoneNumberRequest.isSuffixMatch()) return user.getContacts().findByPhoneNumberSuffix(findContactByPhoneNumberRequest.getPhoneNumber(), phoneNumberCanonicalizer);
+        return user.getContacts().findByPhoneNumber(findContactByPhoneNumberRequest.getPhoneNumber(), phoneNumberCanonicalizer);
     }
 
 }
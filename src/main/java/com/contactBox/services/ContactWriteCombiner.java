@@ -0,0 +1,196 @@
+package com.contactBox.services;
+
+import com.contactBox.data.cache.UserCache;
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.data.sessions.Session;
+import com.contactBox.exceptions.ContactNotFoundException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class ContactWriteCombiner implements InitializingBean {
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Value("${contactbox.writes.stripes:64}")
+    private int stripeCount;
+
+    @Value("${contactbox.writes.max-batch-size:500}")
+    private int maxBatchSize;
+
+    private WriteStripe[] stripes;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (stripeCount < 1) throw new IllegalArgumentException("contactbox.writes.stripes must be at least 1.");
+        if (maxBatchSize < 1) throw new IllegalArgumentException("contactbox.writes.max-batch-size must be at least 1.");
+        stripes = new WriteStripe[stripeCount];
+        for (int index = 0; index < stripeCount; index++) {
+            stripes[index] = new WriteStripe();
+        }
+    }
+
+    public Contact createContact(Session session, Contact contact) {
+        return submit(new PendingWrite(session, contact, null, Thread.currentThread(), new CompletableFuture<>()));
+    }
+
+    public Contact deleteContact(Session session, String contactId) {
+        return submit(new PendingWrite(session, null, contactId, Thread.currentThread(), new CompletableFuture<>()));
+    }
+
+    private Contact submit(PendingWrite write) {
+        WriteStripe stripe = stripes[Math.floorMod(write.session().userId().hashCode(), stripes.length)];
+        stripe.pendingWrites.add(write);
+        boolean isInterrupted = false;
+        while (!write.result().isDone()) {
+            if (stripe.isDraining.compareAndSet(false, true)) {
+                try {
+                    drain(stripe, write);
+                }
+                finally {
+                    stripe.isDraining.set(false);
+                }
+                PendingWrite nextWrite = stripe.pendingWrites.peek();
+                if (nextWrite != null) LockSupport.unpark(nextWrite.thread());
+            }
+            else {
+                LockSupport.park(this);
+                if (Thread.interrupted()) isInterrupted = true;
+            }
+        }
+        if (isInterrupted) Thread.currentThread().interrupt();
+        if (!write.result().isCompletedExceptionally()) return write.result().resultNow();
+        Throwable error = write.result().exceptionNow();
+        if (error instanceof RuntimeException runtimeException) throw runtimeException;
+        if (error instanceof Error fatalError) throw fatalError;
+        throw new IllegalStateException(error);
+    }
+
+    private void drain(WriteStripe stripe, PendingWrite ownWrite) {
+        while (!ownWrite.result().isDone()) {
+            Map<String, List<PendingWrite>> writesByUser = new LinkedHashMap<>();
+            PendingWrite write;
+            for (int count = 0; count < maxBatchSize && (write = stripe.pendingWrites.poll()) != null; count++) {
+                writesByUser.computeIfAbsent(write.session().userId(), userId -> new ArrayList<>()).add(write);
+            }
+            if (writesByUser.isEmpty()) return;
+            try {
+                for (List<PendingWrite> userWrites : writesByUser.values()) {
+                    execute(userWrites);
+                }
+            }
+            catch (Throwable error) {
+                for (List<PendingWrite> userWrites : writesByUser.values()) {
+                    failPending(userWrites, error);
+                }
+            }
+        }
+    }
+
+    private void execute(List<PendingWrite> writes) {
+        Session session = writes.getFirst().session();
+        List<PendingWrite> creates = new ArrayList<>();
+        List<PendingWrite> deletes = new ArrayList<>();
+        for (PendingWrite write : writes) {
+            (write.contact() != null ? creates : deletes).add(write);
+        }
+        try {
+            if (!creates.isEmpty()) {
+                try {
+                    createContacts(session, creates);
+                }
+                catch (RuntimeException error) {
+                    failPending(creates, error);
+                }
+            }
+            if (!deletes.isEmpty()) {
+                try {
+                    deleteContacts(session, deletes);
+                }
+                catch (RuntimeException error) {
+                    failPending(deletes, error);
+                }
+            }
+        }
+        finally {
+            userCache.evict(session.username());
+        }
+    }
+
+    private static void failPending(List<PendingWrite> writes, Throwable error) {
+        for (PendingWrite write : writes) {
+            if (!write.result().isDone()) fail(write, error);
+        }
+    }
+
+    private void createContacts(Session session, List<PendingWrite> creates) {
+        List<Contact> contacts = new ArrayList<>(creates.size());
+        for (PendingWrite write : creates) {
+            contacts.add(write.contact());
+        }
+        contactService.createContacts(contacts);
+        userRepository.pushContacts(session.userId(), contacts);
+        for (PendingWrite write : creates) {
+            complete(write, write.contact());
+        }
+    }
+
+    private void deleteContacts(Session session, List<PendingWrite> deletes) {
+        List<String> contactIds = new ArrayList<>(deletes.size());
+        for (PendingWrite write : deletes) {
+            if (!contactIds.contains(write.contactId())) contactIds.add(write.contactId());
+        }
+        List<Contact> deletedContacts = contactService.deleteOwnedContacts(contactIds, session.userId());
+        Map<String, Contact> deletedContactsById = new HashMap<>();
+        List<String> deletedContactIds = new ArrayList<>(deletedContacts.size());
+        for (Contact contact : deletedContacts) {
+            deletedContactsById.put(contact.getId(), contact);
+            deletedContactIds.add(contact.getId());
+        }
+        userRepository.pullContacts(session.userId(), deletedContactIds);
+        for (PendingWrite write : deletes) {
+            Contact contact = deletedContactsById.remove(write.contactId());
+            if (contact != null) complete(write, contact);
+            else fail(write, new ContactNotFoundException("Contact does not exist. Please try again."));
+        }
+    }
+
+    private static void complete(PendingWrite write, Contact contact) {
+        write.result().complete(contact);
+        LockSupport.unpark(write.thread());
+    }
+
+    private static void fail(PendingWrite write, Throwable error) {
+        write.result().completeExceptionally(error);
+        LockSupport.unpark(write.thread());
+    }
+
+    private static final class WriteStripe {
+        private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean isDraining = new AtomicBoolean();
+    }
+
+    private record PendingWrite(Session session, Contact contact, String contactId, Thread thread, CompletableFuture<Contact> result) {
+    }
+}
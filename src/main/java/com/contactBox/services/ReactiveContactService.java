@@ -0,0 +1,39 @@
+package com.contactBox.services;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.dataTransferObjects.responses.FindAllContactsResponse;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ReactiveContactService {
+    Mono<Contact> createContact(CreateContactRequest createContactRequest, String ownerId);
+
+    Mono<List<Contact>> createContacts(List<Contact> contacts);
+
+    Mono<Contact> updateContact(UpdateContactRequest updateContactRequest, String ownerId);
+
+    Mono<Map<Integer, String>> updateContacts(List<String> contactIds, String ownerId, List<Update> updates);
+
+    Mono<Contact> deleteContact(DeleteContactRequest deleteContactRequest, String ownerId);
+
+    Mono<FindAllContactsResponse> findAllContacts(FindAllContactRequest findAllContactRequest, User user);
+
+    Mono<Void> deleteContacts(List<String> contactIds);
+
+    Mono<Set<String>> findOwnedContactIds(List<String> contactIds, String ownerId);
+
+    Flux<Contact> streamAllContacts(String ownerId);
+
+    Flux<Contact> streamContactsForExport(String ownerId);
+
+    Mono<List<Contact>> findContactByName(FindContactByNameRequest findContactByNameRequest, User user);
+
+    Mono<List<Contact>> findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest, User user);
+}
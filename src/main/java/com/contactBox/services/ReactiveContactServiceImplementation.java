@@ -0,0 +1,124 @@
+package com.contactBox.services;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.reactive.ReactiveContactRepository;
+import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.dataTransferObjects.responses.FindAllContactsResponse;
+import com.contactBox.exceptions.ContactNotFoundException;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.contactBox.utilities.Cursors.decodeCursor;
+import static com.contactBox.utilities.Cursors.encodeCursor;
+import static com.contactBox.utilities.Mappers.*;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveContactServiceImplementation implements ReactiveContactService {
+
+    private static final int DEFAULT_SEARCH_LIMIT = 50;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private ReactiveContactRepository reactiveContactRepository;
+
+    @Autowired
+    private PhoneNumberCanonicalizer phoneNumberCanonicalizer;
+
+    @Override
+    public Mono<Contact> createContact(CreateContactRequest createContactRequest, String ownerId) {
+        return Mono.fromCallable(() -> createContactRequestMap(createContactRequest, ownerId, phoneNumberCanonicalizer))
+                .flatMap(reactiveContactRepository::insert);
+    }
+
+    @Override
+    public Mono<List<Contact>> createContacts(List<Contact> contacts) {
+        if (contacts.isEmpty()) return Mono.just(contacts);
+        return reactiveContactRepository.insert(contacts).collectList();
+    }
+
+    @Override
+    public Mono<Contact> updateContact(UpdateContactRequest updateContactRequest, String ownerId) {
+        return Mono.fromCallable(() -> updateContactRequestUpdateMap(updateContactRequest, phoneNumberCanonicalizer))
+                .flatMap(update -> reactiveContactRepository.updateContact(updateContactRequest.getId(), ownerId, update))
+                .switchIfEmpty(Mono.error(() -> new ContactNotFoundException("Contact does not exist. Please try again.")));
+    }
+
+    @Override
+    public Mono<Map<Integer, String>> updateContacts(List<String> contactIds, String ownerId, List<Update> updates) {
+        return reactiveContactRepository.updateContacts(contactIds, ownerId, updates).map(bulkUpdateResult -> bulkUpdateErrorsMap(contactIds, bulkUpdateResult));
+    }
+
+    @Override
+    public Mono<Contact> deleteContact(DeleteContactRequest deleteContactRequest, String ownerId) {
+        return reactiveContactRepository.deleteContact(deleteContactRequest.getContactId(), ownerId)
+                .switchIfEmpty(Mono.error(() -> new ContactNotFoundException("Contact does not exist. Please try again.")));
+    }
+
+    @Override
+    public Mono<FindAllContactsResponse> findAllContacts(FindAllContactRequest findAllContactRequest, User user) {
+        return Mono.defer(() -> {
+            int requestedPageSize = findAllContactRequest.getLimit() == null ? DEFAULT_PAGE_SIZE : findAllContactRequest.getLimit();
+            if (requestedPageSize < 1) throw new IllegalArgumentException("Page limit must be at least 1. Please enter a valid input.");
+            int pageSize = Math.min(requestedPageSize, MAX_PAGE_SIZE);
+            Limit limit = Limit.of(pageSize + 1);
+            Flux<Contact> contacts = findAllContactRequest.getCursor() == null
+                    ? reactiveContactRepository.findByOwnerIdOrderByIdAsc(user.getId(), limit)
+                    : reactiveContactRepository.findByOwnerIdAndIdGreaterThanOrderByIdAsc(user.getId(), decodeCursor(findAllContactRequest.getCursor()), limit);
+            return contacts.collectList().map(page -> {
+                if (page.size() <= pageSize) return findAllContactsResponseMap(page, null, user);
+                List<Contact> pageContacts = page.subList(0, pageSize);
+                return findAllContactsResponseMap(pageContacts, encodeCursor(pageContacts.getLast().getId()), user);
+            });
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteContacts(List<String> contactIds) {
+        return reactiveContactRepository.deleteContacts(contactIds).then();
+    }
+
+    @Override
+    public Mono<Set<String>> findOwnedContactIds(List<String> contactIds, String ownerId) {
+        return reactiveContactRepository.findOwnedContactIds(contactIds, ownerId);
+    }
+
+    @Override
+    public Flux<Contact> streamAllContacts(String ownerId) {
+        return reactiveContactRepository.streamByOwnerIdOrderByIdAsc(ownerId);
+    }
+
+    @Override
+    public Flux<Contact> streamContactsForExport(String ownerId) {
+        return reactiveContactRepository.findExportByOwnerId(ownerId);
+    }
+
+    @Override
+    public Mono<List<Contact>> findContactByName(FindContactByNameRequest findContactByNameRequest, User user) {
+        return Mono.fromCallable(() -> {
+            int limit = findContactByNameRequest.getLimit() == null ? DEFAULT_SEARCH_LIMIT : findContactByNameRequest.getLimit();
+            if (limit < 1) throw new IllegalArgumentException("Search limit must be at least 1. Please enter a valid input.");
+            return user.getContacts().findByName(findContactByNameRequest.getName(), limit);
+        });
+    }
+
+    @Override
+    public Mono<List<Contact>> findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest, User user) {
+        return Mono.fromCallable(() -> {
+            if (findContactByPhoneNumberRequest.isSuffixMatch()) return user.getContacts().findByPhoneNumberSuffix(findContactByPhoneNumberRequest.getPhoneNumber(), phoneNumberCanonicalizer);
+            return user.getContacts().findByPhoneNumber(findContactByPhoneNumberRequest.getPhoneNumber(), phoneNumberCanonicalizer);
+        });
+    }
+}
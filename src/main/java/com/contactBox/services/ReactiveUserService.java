@@ -0,0 +1,39 @@
+package com.contactBox.services;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.dataTransferObjects.responses.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+    Mono<SignUpResponse> signUp(SignUpRequest signUpRequest);
+
+    Mono<LogoutResponse> logout(LogoutRequest logoutRequest);
+
+    Mono<LoginResponse> login(LoginRequest loginRequest);
+
+    Mono<CreateContactResponse> createContact(CreateContactRequest createContactRequest);
+
+    Mono<BulkCreateContactResponse> bulkCreateContacts(BulkCreateContactRequest bulkCreateContactRequest);
+
+    Mono<UpdateContactResponse> updateContact(UpdateContactRequest updateContactRequest);
+
+    Mono<BulkUpdateContactResponse> bulkUpdateContacts(BulkUpdateContactRequest bulkUpdateContactRequest);
+
+    Mono<FindContactByIdResponse> findContactById(FindContactByIdRequest findContactByIdRequest);
+
+    Mono<DeleteContactResponse> deleteContact(DeleteContactRequest deleteContactRequest);
+
+    Mono<BulkDeleteContactResponse> bulkDeleteContacts(BulkDeleteContactRequest bulkDeleteContactRequest);
+
+    Mono<FindAllContactsResponse> findAllContacts(FindAllContactRequest findAllContactRequest);
+
+    Flux<Contact> streamAllContacts(FindAllContactRequest findAllContactRequest);
+
+    Flux<Contact> exportContacts(ExportContactRequest exportContactRequest);
+
+    Mono<FindContactByNameResponse> findContactByName(FindContactByNameRequest findContactByNameRequest);
+
+    Mono<FindContactByPhoneNumberResponse> findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest);
+}
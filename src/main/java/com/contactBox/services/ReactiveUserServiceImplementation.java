@@ -0,0 +1,286 @@
+package com.contactBox.services;
+
+import com.contactBox.data.cache.UserCache;
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.models.UserCredentials;
+import com.contactBox.data.repositories.reactive.ReactiveUserRepository;
+import com.contactBox.data.sessions.Session;
+import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.dataTransferObjects.responses.*;
+import com.contactBox.exceptions.ContactNotFoundException;
+import com.contactBox.exceptions.InvalidPasswordException;
+import com.contactBox.exceptions.UserNotFoundException;
+import com.contactBox.security.PasswordHasher;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.contactBox.utilities.BulkWrites.*;
+import static com.contactBox.utilities.FindContact.findContactInUserList;
+import static com.contactBox.utilities.Mappers.*;
+import static com.contactBox.utilities.ValidateInputs.validatePassword;
+import static com.contactBox.utilities.ValidateInputs.validateUsername;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserServiceImplementation implements ReactiveUserService {
+
+    @Autowired
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Autowired
+    private ReactiveContactService reactiveContactService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private PhoneNumberCanonicalizer phoneNumberCanonicalizer;
+
+    @Value("${contactbox.writes.max-attempts:5}")
+    private int maxWriteAttempts;
+
+    @Value("${contactbox.writes.retry-backoff:10ms}")
+    private Duration writeRetryBackoff;
+
+    @Override
+    public Mono<SignUpResponse> signUp(SignUpRequest signUpRequest) {
+        return Mono.defer(() -> {
+            validateUsername(signUpRequest.getUsername());
+            validatePassword(signUpRequest);
+            User user = signUpRequestMap(signUpRequest);
+            return Mono.fromFuture(() -> passwordHasher.hashAsync(signUpRequest.getPassword()))
+                    .flatMap(password -> {
+                        user.setPassword(password);
+                        return reactiveUserRepository.insert(user);
+                    })
+                    .onErrorMap(DuplicateKeyException.class, error -> new IllegalArgumentException("Username exists. Please try again."))
+                    .map(savedUser -> signUpResponseMap(savedUser, sessionService.createSession(savedUser.getId(), savedUser.getUsername())));
+        });
+    }
+
+    @Override
+    public Mono<LogoutResponse> logout(LogoutRequest logoutRequest) {
+        return Mono.fromCallable(() -> logoutResponseMap(sessionService.endSession(logoutRequest.getToken(), logoutRequest.getUsername())));
+    }
+
+    @Override
+    public Mono<LoginResponse> login(LoginRequest loginRequest) {
+        return findCredentials(loginRequest.getUsername())
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("Invalid login details. Please try again.")))
+                .flatMap(credentials -> verifyPassword(credentials, loginRequest.getPassword(), "Invalid login details. Please try again."))
+                .flatMap(credentials -> {
+                    if (!passwordHasher.needsRehash(credentials.password())) return Mono.just(credentials);
+                    return Mono.fromFuture(() -> passwordHasher.hashAsync(loginRequest.getPassword()))
+                            .flatMap(password -> reactiveUserRepository.updatePassword(credentials.id(), password))
+                            .then(Mono.fromRunnable(() -> userCache.evict(credentials.username())))
+                            .thenReturn(credentials);
+                })
+                .map(credentials -> loginResponseMap(credentials, sessionService.createSession(credentials.id(), credentials.username())));
+    }
+
+    @Override
+    public Mono<CreateContactResponse> createContact(CreateContactRequest createContactRequest) {
+        return validateSession(createContactRequest.getToken(), createContactRequest.getUsername(), "Please login to create contact.")
+                .flatMap(session -> reactiveContactService.createContact(createContactRequest, session.userId())
+                        .flatMap(contact -> reactiveUserRepository.pushContact(session.userId(), contact)
+                                .then(Mono.fromCallable(() -> {
+                                    userCache.evict(session.username());
+                                    return createContactResponseMap(contact, session);
+                                }))));
+    }
+
+    @Override
+    public Mono<BulkCreateContactResponse> bulkCreateContacts(BulkCreateContactRequest bulkCreateContactRequest) {
+        return Mono.defer(() -> {
+            validateBulkSize(bulkCreateContactRequest.getContacts(), "create");
+            return validateSession(bulkCreateContactRequest.getToken(), bulkCreateContactRequest.getUsername(), "Please login to create contacts.")
+                    .flatMap(session -> {
+                        BulkCreate bulkCreate = prepareBulkCreate(bulkCreateContactRequest.getContacts(), session.userId(), phoneNumberCanonicalizer);
+                        return reactiveContactService.createContacts(bulkCreate.contacts())
+                                .then(reactiveUserRepository.pushContacts(session.userId(), bulkCreate.contacts()))
+                                .then(Mono.fromCallable(() -> {
+                                    userCache.evict(session.username());
+                                    return bulkCreateContactResponseMap(bulkCreate.complete(), session);
+                                }));
+                    });
+        });
+    }
+
+    @Override
+    public Mono<UpdateContactResponse> updateContact(UpdateContactRequest updateContactRequest) {
+        return validateSession(updateContactRequest.getToken(), updateContactRequest.getUsername(), "Please login to update contact.")
+                .flatMap(session -> reactiveContactService.updateContact(updateContactRequest, session.userId())
+                        .map(contact -> {
+                            userCache.evict(session.username());
+                            return updateContactResponseMap(contact, session.userId());
+                        }));
+    }
+
+    @Override
+    public Mono<BulkUpdateContactResponse> bulkUpdateContacts(BulkUpdateContactRequest bulkUpdateContactRequest) {
+        return Mono.defer(() -> {
+            validateBulkSize(bulkUpdateContactRequest.getContacts(), "update");
+            return validateSession(bulkUpdateContactRequest.getToken(), bulkUpdateContactRequest.getUsername(), "Please login to update contacts.")
+                    .flatMap(session -> {
+                        BulkUpdate bulkUpdate = prepareBulkUpdate(bulkUpdateContactRequest.getContacts(), phoneNumberCanonicalizer);
+                        return reactiveContactService.updateContacts(bulkUpdate.contactIds(), session.userId(), bulkUpdate.updates()).map(errors -> {
+                            userCache.evict(session.username());
+                            return bulkUpdateContactResponseMap(bulkUpdate.complete(errors), session);
+                        });
+                    });
+        });
+    }
+
+    @Override
+    public Mono<FindContactByIdResponse> findContactById(FindContactByIdRequest findContactByIdRequest) {
+        return findCachedSessionUser(findContactByIdRequest.getToken(), findContactByIdRequest.getUsername(), "Please login to view contact.")
+                .map(user -> viewContactResponseMap(findContactInUserList(findContactByIdRequest.getContactId(), user), user));
+    }
+
+    @Override
+    public Mono<DeleteContactResponse> deleteContact(DeleteContactRequest deleteContactRequest) {
+        return validateSession(deleteContactRequest.getToken(), deleteContactRequest.getUsername(), "Please login to delete contact.")
+                .flatMap(session -> findSessionCredentials(session)
+                        .flatMap(credentials -> verifyPassword(credentials, deleteContactRequest.getPassword(), "Incorrect password. Please try again."))
+                        .flatMap(credentials -> reactiveContactService.deleteContact(deleteContactRequest, session.userId()))
+                        .flatMap(contact -> reactiveUserRepository.pullContact(session.userId(), contact.getId())
+                                .then(Mono.fromCallable(() -> {
+                                    userCache.evict(session.username());
+                                    return deleteContactResponseMap(contact, session);
+                                }))));
+    }
+
+    @Override
+    public Mono<BulkDeleteContactResponse> bulkDeleteContacts(BulkDeleteContactRequest bulkDeleteContactRequest) {
+        return Mono.defer(() -> {
+            List<String> requestedContactIds = bulkDeleteContactRequest.getContactIds();
+            validateBulkSize(requestedContactIds, "delete");
+            return validateSession(bulkDeleteContactRequest.getToken(), bulkDeleteContactRequest.getUsername(), "Please login to delete contacts.")
+                    .flatMap(session -> findSessionCredentials(session)
+                            .flatMap(verifiedCredentials -> verifyPassword(verifiedCredentials, bulkDeleteContactRequest.getPassword(), "Incorrect password. Please try again."))
+                            .then(Mono.defer(() -> reactiveUserRepository.findCredentialsByUsername(session.username()))
+                                    .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username()))))
+                                    .flatMap(credentials -> reactiveContactService.findOwnedContactIds(requestedContactIds, credentials.id()).flatMap(ownedContactIds -> {
+                                        BulkDelete bulkDelete = prepareBulkDelete(requestedContactIds, ownedContactIds);
+                                        return reactiveUserRepository.pullContacts(credentials.id(), credentials.version(), bulkDelete.contactIds())
+                                                .flatMap(isPulled -> isPulled
+                                                        ? reactiveContactService.deleteContacts(bulkDelete.contactIds())
+                                                        : Mono.error(new OptimisticLockingFailureException(String.format("Contacts of %s were changed by another request.", session.username()))))
+                                                .then(Mono.fromCallable(() -> {
+                                                    userCache.evict(session.username());
+                                                    return bulkDeleteContactResponseMap(bulkDelete.results(), session);
+                                                }));
+                                    }))
+                                    .retryWhen(retryOnConflict())));
+        });
+    }
+
+    @Override
+    public Mono<FindAllContactsResponse> findAllContacts(FindAllContactRequest findAllContactRequest) {
+        return findCachedSessionUser(findAllContactRequest.getToken(), findAllContactRequest.getUsername(), "Please login to view all your contacts.")
+                .flatMap(user -> reactiveContactService.findAllContacts(findAllContactRequest, user))
+                .map(findAllContactsResponse -> {
+                    if (findAllContactRequest.getCursor() == null && findAllContactsResponse.getContacts().isEmpty()) throw new ContactNotFoundException("Contacts list is empty. Please create contact.");
+                    return findAllContactsResponse;
+                });
+    }
+
+    @Override
+    public Flux<Contact> streamAllContacts(FindAllContactRequest findAllContactRequest) {
+        return validateSession(findAllContactRequest.getToken(), findAllContactRequest.getUsername(), "Please login to view all your contacts.")
+                .flatMapMany(session -> reactiveContactService.streamAllContacts(session.userId()));
+    }
+
+    @Override
+    public Flux<Contact> exportContacts(ExportContactRequest exportContactRequest) {
+        return Flux.defer(() -> {
+            if (exportContactRequest.getFormat() == null) throw new IllegalArgumentException("Please enter a valid export format.");
+            return validateSession(exportContactRequest.getToken(), exportContactRequest.getUsername(), "Please login to export your contacts.")
+                    .flatMapMany(session -> reactiveContactService.streamContactsForExport(session.userId()));
+        });
+    }
+
+    @Override
+    public Mono<FindContactByNameResponse> findContactByName(FindContactByNameRequest findContactByNameRequest) {
+        return findCachedSessionUser(findContactByNameRequest.getToken(), findContactByNameRequest.getUsername(), "Please login to view your contacts.")
+                .flatMap(user -> reactiveContactService.findContactByName(findContactByNameRequest, user)
+                        .map(contacts -> {
+                            if (contacts.isEmpty()) throw new ContactNotFoundException(String.format("Contact with name %s does not exist", findContactByNameRequest.getName()));
+                            return findContactByNameResponseMap(contacts, user);
+                        }));
+    }
+
+    @Override
+    public Mono<FindContactByPhoneNumberResponse> findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest) {
+        return findCachedSessionUser(findContactByPhoneNumberRequest.getToken(), findContactByPhoneNumberRequest.getUsername(), "Please login to view your contacts.")
+                .flatMap(user -> reactiveContactService.findContactByPhoneNumber(findContactByPhoneNumberRequest, user)
+                        .map(contacts -> {
+                            if (contacts.isEmpty()) throw new ContactNotFoundException(String.format("Contact with phone number %s does not exist", findContactByPhoneNumberRequest.getPhoneNumber()));
+                            return findContactByPhoneNumberResponseMap(contacts, user);
+                        }));
+    }
+
+    private Mono<UserCredentials> verifyPassword(UserCredentials credentials, String password, String message) {
+        return Mono.fromFuture(() -> passwordHasher.verifyAsync(password, credentials.password()))
+                .flatMap(isValid -> isValid ? Mono.just(credentials) : Mono.error(new InvalidPasswordException(message)));
+    }
+
+    private Retry retryOnConflict() {
+        return Retry.from(retrySignals -> retrySignals.concatMap(retrySignal -> {
+            if (!(retrySignal.failure() instanceof OptimisticLockingFailureException)) return Mono.error(retrySignal.failure());
+            int attempt = (int) retrySignal.totalRetries() + 1;
+            if (attempt >= maxWriteAttempts) return Mono.error(new IllegalStateException(WRITE_CONFLICT));
+            return Mono.delay(retryBackoff(attempt, writeRetryBackoff));
+        }));
+    }
+
+    private Mono<Session> validateSession(String token, String username, String message) {
+        return Mono.fromCallable(() -> sessionService.validateSession(token, username, message));
+    }
+
+    private Mono<UserCredentials> findSessionCredentials(Session session) {
+        return findCredentials(session.username())
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username()))));
+    }
+
+    private Mono<User> findCachedSessionUser(String token, String username, String message) {
+        return validateSession(token, username, message)
+                .flatMap(session -> findCachedUser(session.username())
+                        .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username())))));
+    }
+
+    private Mono<User> findCachedUser(String username) {
+        return Mono.defer(() -> {
+            long generation = userCache.generation(username);
+            User cachedUser = userCache.getIfPresent(username);
+            if (cachedUser != null) return Mono.just(cachedUser);
+            return reactiveUserRepository.findByUsername(username).doOnNext(user -> userCache.putIfAbsent(user, generation));
+        });
+    }
+
+    private Mono<UserCredentials> findCredentials(String username) {
+        return Mono.defer(() -> {
+            User cachedUser = userCache.getIfPresent(username);
+            if (cachedUser != null) return Mono.just(userCredentialsMap(cachedUser));
+            return reactiveUserRepository.findCredentialsByUsername(username);
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.contactBox.services;
+
+import com.contactBox.data.sessions.Session;
+
+public interface SessionService {
+
+    String createSession(String userId, String username);
+
+    Session validateSession(String token, String username, String message);
+
+    Session endSession(String token, String username);
+}
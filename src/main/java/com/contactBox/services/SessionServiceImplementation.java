@@ -0,0 +1,52 @@
+package com.contactBox.services;
+
+import com.contactBox.data.sessions.Session;
+import com.contactBox.data.sessions.SessionStore;
+import com.contactBox.exceptions.ProfileLockException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+@Service
+public class SessionServiceImplementation implements SessionService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Value("${contactbox.sessions.time-to-live:30m}")
+    private Duration timeToLive;
+
+    @Override
+    public String createSession(String userId, String username) {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(tokenBytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+        sessionStore.save(new Session(token, userId, username, System.currentTimeMillis() + timeToLive.toMillis()));
+        return token;
+    }
+
+    @Override
+    public Session validateSession(String token, String username, String message) {
+        Session session = sessionStore.find(token);
+        if (session == null || !isSameUser(session, username)) throw new ProfileLockException(message);
+        return session;
+    }
+
+    @Override
+    public Session endSession(String token, String username) {
+        Session session = validateSession(token, username, "You are not logged in. Please login.");
+        sessionStore.remove(token);
+        return session;
+    }
+
+    private static boolean isSameUser(Session session, String username) {
+        return username != null && session.username().equalsIgnoreCase(username);
+    }
+}
@@ -1,25 +1,39 @@
 package com.contactBox.services;
 
+import com.contactBox.data.models.Contact;
 import com.contactBox.dataTransferObjects.requests.*;
 import com.contactBox.dataTransferObjects.responses.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 public interface UserService {
-    SignUpResponse signUp(SignUpRequest signUpRequest);
+    CompletableFuture<SignUpResponse> signUp(SignUpRequest signUpRequest);
 
     LogoutResponse logout(LogoutRequest logoutRequest);
 
-    LoginResponse login(LoginRequest loginRequest);
+    CompletableFuture<LoginResponse> login(LoginRequest loginRequest);
 
     CreateContactResponse createContact(CreateContactRequest createContactRequest);
 
+    BulkCreateContactResponse bulkCreateContacts(BulkCreateContactRequest bulkCreateContactRequest);
+
     UpdateContactResponse updateContact(UpdateContactRequest updateContactRequest);
 
+    BulkUpdateContactResponse bulkUpdateContacts(BulkUpdateContactRequest bulkUpdateContactRequest);
+
     FindContactByIdResponse findContactById(FindContactByIdRequest findContactByIdRequest);
 
-    DeleteContactResponse deleteContact(DeleteContactRequest deleteContactRequest);
+    CompletableFuture<DeleteContactResponse> deleteContact(DeleteContactRequest deleteContactRequest);
+
+    CompletableFuture<BulkDeleteContactResponse> bulkDeleteContacts(BulkDeleteContactRequest bulkDeleteContactRequest);
 
     FindAllContactsResponse findAllContacts(FindAllContactRequest findAllContactRequest);
 
+    Stream<Contact> streamAllContacts(FindAllContactRequest findAllContactRequest);
+
+    Stream<Contact> exportContacts(ExportContactRequest exportContactRequest);
+
     FindContactByNameResponse findContactByName(FindContactByNameRequest findContactByNameRequest);
 
     FindContactByPhoneNumberResponse findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest);
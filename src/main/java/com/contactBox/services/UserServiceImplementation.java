@@ -1,21 +1,40 @@
 package com.contactBox.services;
 
+import com.contactBox.data.cache.UserCache;
 import com.contactBox.data.models.Contact;
 import com.contactBox.data.models.User;
+import com.contactBox.data.models.UserCredentials;
 import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.data.sessions.Session;
 import com.contactBox.dataTransferObjects.requests.*;
 import com.contactBox.dataTransferObjects.responses.*;
 import com.contactBox.exceptions.ContactNotFoundException;
 import com.contactBox.exceptions.InvalidPasswordException;
-import com.contactBox.exceptions.ProfileLockException;
 import com.contactBox.exceptions.UserNotFoundException;
+import com.contactBox.security.PasswordHasher;
+import com.contactBox.utilities.PhoneNumberCanonicalizer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static com.contactBox.utilities.BulkWrites.*;
 import static com.contactBox.utilities.FindContact.findContactInUserList;
+import static com.contactBox.utilities.Futures.defer;
 import static com.contactBox.utilities.Mappers.*;
+import static com.contactBox.utilities.ValidateInputs.validatePassword;
+import static com.contactBox.utilities.ValidateInputs.validateUsername;
 
 @Service
 public class UserServiceImplementation implements UserService{
@@ -26,109 +45,170 @@ public class UserServiceImplementation implements UserService{
     @Autowired
     private ContactService contactService;
 
-    @Override
-    public SignUpResponse signUp(SignUpRequest signUpRequest) {
-        validateUsername(signUpRequest.getUsername());
-        validatePassword(signUpRequest);
-        User user = signUpRequestMap(signUpRequest);
-        userRepository.save(user);
-        return signUpResponseMap(user);
-    }
+    @Autowired
+    private ContactWriteCombiner contactWriteCombiner;
 
-    private void validateUsername(String username) {
-        if (username == null) throw new IllegalArgumentException("Username cannot be null. Please enter a valid input.");
-        if (username.isEmpty()) throw new IllegalArgumentException("Username cannot be empty. Please enter a valid input.");
-        if (username.contains(" ")) throw new IllegalArgumentException("Username cannot contain spaces. Please enter a valid input.");
-        if (doesUsernameExist(username.toLowerCase())) throw new IllegalArgumentException("Username exists. Please try again.");
-    }
+    @Autowired
+    private UserCache userCache;
 
-    private void validatePassword(SignUpRequest signUpRequest) {
-        if (signUpRequest.getPassword() == null) throw new IllegalArgumentException("Password cannot be null. Please enter a valid input.");
-        if (!signUpRequest.getPassword().equals(signUpRequest.getConfirmPassword())) throw new IllegalArgumentException("Passwords do not match. Please try again.");
-        if (signUpRequest.getPassword().isEmpty()) throw new IllegalArgumentException("Password field cannot be empty. Please enter a valid input.");
-        if (signUpRequest.getPassword().length() < 6) throw new IllegalArgumentException("Password must be at least 6 characters. Please enter a valid input.");
-    }
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
 
-    private boolean doesUsernameExist(String username) {
-        User user = userRepository.findByUsername(username);
-        return user != null;
+    @Autowired
+    private PhoneNumberCanonicalizer phoneNumberCanonicalizer;
+
+    @Value("${contactbox.writes.max-attempts:5}")
+    private int maxWriteAttempts;
+
+    @Value("${contactbox.writes.retry-backoff:10ms}")
+    private Duration writeRetryBackoff;
+
+    @Override
+    public CompletableFuture<SignUpResponse> signUp(SignUpRequest signUpRequest) {
+        return defer(() -> {
+            validateUsername(signUpRequest.getUsername());
+            validatePassword(signUpRequest);
+            User user = signUpRequestMap(signUpRequest);
+            return passwordHasher.hashAsync(signUpRequest.getPassword()).thenApplyAsync(password -> {
+                user.setPassword(password);
+                try {
+                    userRepository.insert(user);
+                }
+                catch (DuplicateKeyException error) {
+                    throw new IllegalArgumentException("Username exists. Please try again.");
+                }
+                return signUpResponseMap(user, sessionService.createSession(user.getId(), user.getUsername()));
+            }, applicationTaskExecutor);
+        });
     }
 
     @Override
     public LogoutResponse logout(LogoutRequest logoutRequest) {
-        User user = userRepository.findByUsername(logoutRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", logoutRequest.getUsername()));
-        user.setLocked(true);
-        userRepository.save(user);
-        return logoutResponseMap(user);
+        Session session = sessionService.endSession(logoutRequest.getToken(), logoutRequest.getUsername());
+        return logoutResponseMap(session);
     }
 
     @Override
-    public LoginResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByUsername(loginRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException("Invalid login details. Please try again.");
-        if (!user.getPassword().equals(loginRequest.getPassword())) throw new InvalidPasswordException("Invalid login details. Please try again.");
-        user.setLocked(false);
-        userRepository.save(user);
-        return loginResponseMap(user);
+    public CompletableFuture<LoginResponse> login(LoginRequest loginRequest) {
+        return defer(() -> {
+            UserCredentials credentials = findCredentials(loginRequest.getUsername());
+            if (credentials == null) throw new UserNotFoundException("Invalid login details. Please try again.");
+            return passwordHasher.verifyAsync(loginRequest.getPassword(), credentials.password())
+                    .thenCompose(isVerified -> {
+                        if (!isVerified) throw new InvalidPasswordException("Invalid login details. Please try again.");
+                        if (!passwordHasher.needsRehash(credentials.password())) return CompletableFuture.<Void>completedFuture(null);
+                        return passwordHasher.hashAsync(loginRequest.getPassword()).thenAcceptAsync(password -> {
+                            userRepository.updatePassword(credentials.id(), password);
+                            userCache.evict(credentials.username());
+                        }, applicationTaskExecutor);
+                    })
+                    .thenApply(rehashed -> loginResponseMap(credentials, sessionService.createSession(credentials.id(), credentials.username())));
+        });
     }
 
     @Override
     public CreateContactResponse createContact(CreateContactRequest createContactRequest) {
-        User user = userRepository.findByUsername(createContactRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.",createContactRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockException("Please login to create contact.");
-        Contact contact = contactService.createContact(createContactRequest);
-        user.getContacts().add(contact);
-        userRepository.save(user);
-        return createContactResponseMap(contact, user);
+        Session session = sessionService.validateSession(createContactRequest.getToken(), createContactRequest.getUsername(), "Please login to create contact.");
+        Contact contact = contactWriteCombiner.createContact(session, createContactRequestMap(createContactRequest, session.userId(), phoneNumberCanonicalizer));
+        return createContactResponseMap(contact, session);
+    }
+
+    @Override
+    public BulkCreateContactResponse bulkCreateContacts(BulkCreateContactRequest bulkCreateContactRequest) {
+        validateBulkSize(bulkCreateContactRequest.getContacts(), "create");
+        Session session = sessionService.validateSession(bulkCreateContactRequest.getToken(), bulkCreateContactRequest.getUsername(), "Please login to create contacts.");
+        BulkCreate bulkCreate = prepareBulkCreate(bulkCreateContactRequest.getContacts(), session.userId(), phoneNumberCanonicalizer);
+        contactService.createContacts(bulkCreate.contacts());
+        userRepository.pushContacts(session.userId(), bulkCreate.contacts());
+        userCache.evict(session.username());
+        return bulkCreateContactResponseMap(bulkCreate.complete(), session);
     }
 
     @Override
     public UpdateContactResponse updateContact(UpdateContactRequest updateContactRequest) {
-        User user = userRepository.findByUsername(updateContactRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", updateContactRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockException("Please login to update contact.");
-        Contact contact = contactService.updateContact(updateContactRequest, user);
-        return updateContactResponseMap(contact, user);
+        Session session = sessionService.validateSession(updateContactRequest.getToken(), updateContactRequest.getUsername(), "Please login to update contact.");
+        Contact contact = contactService.updateContact(updateContactRequest, session.userId());
+        userCache.evict(session.username());
+        return updateContactResponseMap(contact, session.userId());
+    }
+
+    @Override
+    public BulkUpdateContactResponse bulkUpdateContacts(BulkUpdateContactRequest bulkUpdateContactRequest) {
+        validateBulkSize(bulkUpdateContactRequest.getContacts(), "update");
+        Session session = sessionService.validateSession(bulkUpdateContactRequest.getToken(), bulkUpdateContactRequest.getUsername(), "Please login to update contacts.");
+        BulkUpdate bulkUpdate = prepareBulkUpdate(bulkUpdateContactRequest.getContacts(), phoneNumberCanonicalizer);
+        Map<Integer, String> errors = contactService.updateContacts(bulkUpdate.contactIds(), session.userId(), bulkUpdate.updates());
+        userCache.evict(session.username());
+        return bulkUpdateContactResponseMap(bulkUpdate.complete(errors), session);
     }
 
     @Override
     public FindContactByIdResponse findContactById(FindContactByIdRequest findContactByIdRequest) {
-        User user = userRepository.findByUsername(findContactByIdRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", findContactByIdRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockException("Please login to view contact.");
+        User user = findCachedSessionUser(findContactByIdRequest.getToken(), findContactByIdRequest.getUsername(), "Please login to view contact.");
         Contact contact = findContactInUserList(findContactByIdRequest.getContactId(), user);
         return viewContactResponseMap(contact,user);
     }
 
     @Override
-    public DeleteContactResponse deleteContact(DeleteContactRequest deleteContactRequest) {
-        User user = userRepository.findByUsername(deleteContactRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", deleteContactRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockException("Please login to delete contact.");
-        if (!user.getPassword().equals(deleteContactRequest.getPassword())) throw new InvalidPasswordException("Incorrect password. Please try again.");
-        Contact contact = findContactInUserList(deleteContactRequest.getContactId(), user);
-        DeleteContactResponse deleteContactResponse = contactService.deleteContact(deleteContactRequest, user);
-        user.getContacts().remove(contact);
-        userRepository.save(user);
-        return deleteContactResponse;
+    public CompletableFuture<DeleteContactResponse> deleteContact(DeleteContactRequest deleteContactRequest) {
+        return defer(() -> {
+            Session session = sessionService.validateSession(deleteContactRequest.getToken(), deleteContactRequest.getUsername(), "Please login to delete contact.");
+            UserCredentials credentials = findCredentials(session.username());
+            if (credentials == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username()));
+            return passwordHasher.verifyAsync(deleteContactRequest.getPassword(), credentials.password()).thenApplyAsync(isVerified -> {
+                if (!isVerified) throw new InvalidPasswordException("Incorrect password. Please try again.");
+                Contact contact = contactWriteCombiner.deleteContact(session, deleteContactRequest.getContactId());
+                return deleteContactResponseMap(contact, session);
+            }, applicationTaskExecutor);
+        });
+    }
+
+    @Override
+    public CompletableFuture<BulkDeleteContactResponse> bulkDeleteContacts(BulkDeleteContactRequest bulkDeleteContactRequest) {
+        return defer(() -> {
+            List<String> requestedContactIds = bulkDeleteContactRequest.getContactIds();
+            validateBulkSize(requestedContactIds, "delete");
+            Session session = sessionService.validateSession(bulkDeleteContactRequest.getToken(), bulkDeleteContactRequest.getUsername(), "Please login to delete contacts.");
+            UserCredentials verifiedCredentials = findCredentials(session.username());
+            if (verifiedCredentials == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username()));
+            return passwordHasher.verifyAsync(bulkDeleteContactRequest.getPassword(), verifiedCredentials.password()).thenApplyAsync(isVerified -> {
+                if (!isVerified) throw new InvalidPasswordException("Incorrect password. Please try again.");
+                return deleteOwnedContacts(requestedContactIds, session);
+            }, applicationTaskExecutor);
+        });
     }
 
     @Override
     public FindAllContactsResponse findAllContacts(FindAllContactRequest findAllContactRequest) {
-        User user = userRepository.findByUsername(findAllContactRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", findAllContactRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockException("Please login to view all your contacts.");
-        if (user.getContacts().isEmpty()) throw new ContactNotFoundException("Contacts list is empty. Please create contact.");
-        return findAllContactsResponseMap(user.getContacts(), user);
+        User user = findCachedSessionUser(findAllContactRequest.getToken(), findAllContactRequest.getUsername(), "Please login to view all your contacts.");
+        FindAllContactsResponse findAllContactsResponse = contactService.findAllContacts(findAllContactRequest, user);
+        if (findAllContactRequest.getCursor() == null && findAllContactsResponse.getContacts().isEmpty()) throw new ContactNotFoundException("Contacts list is empty. Please create contact.");
+        return findAllContactsResponse;
+    }
+
+    @Override
+    public Stream<Contact> streamAllContacts(FindAllContactRequest findAllContactRequest) {
+        Session session = sessionService.validateSession(findAllContactRequest.getToken(), findAllContactRequest.getUsername(), "Please login to view all your contacts.");
+        return contactService.streamAllContacts(session.userId());
+    }
+
+    @Override
+    public Stream<Contact> exportContacts(ExportContactRequest exportContactRequest) {
+        if (exportContactRequest.getFormat() == null) throw new IllegalArgumentException("Please enter a valid export format.");
+        Session session = sessionService.validateSession(exportContactRequest.getToken(), exportContactRequest.getUsername(), "Please login to export your contacts.");
+        return contactService.streamContactsForExport(session.userId());
     }
 
     @Override
     public FindContactByNameResponse findContactByName(FindContactByNameRequest findContactByNameRequest) {
-        User user = userRepository.findByUsername(findContactByNameRequest.getUsername().toLowerCase().trim());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", findContactByNameRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockException("Please login to view your contacts.");
+        User user = findCachedSessionUser(findContactByNameRequest.getToken(), findContactByNameRequest.getUsername(), "Please login to view your contacts.");
         List<Contact> contacts = contactService.findContactByName(findContactByNameRequest, user);
         if (contacts.isEmpty()) throw new ContactNotFoundException(String.format("Contact with name %s does not exist", findContactByNameRequest.getName()));
         return findContactByNameResponseMap(contacts, user);
@@ -136,12 +216,60 @@ public class UserServiceImplementation implements UserService{
 
     @Override
     public FindContactByPhoneNumberResponse findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest) {
-        User user = userRepository.findByUsername(findContactByPhoneNumberRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", findContactByPhoneNumberRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockException("Please login to view your contacts.");
+        User user = findCachedSessionUser(findContactByPhoneNumberRequest.getToken(), findContactByPhoneNumberRequest.getUsername(), "Please login to view your contacts.");
         List<Contact> contacts = contactService.findContactByPhoneNumber(findContactByPhoneNumberRequest, user);
         if (contacts.isEmpty()) throw new ContactNotFoundException(String.format("Contact with phone number %s does not exist", findContactByPhoneNumberRequest.getPhoneNumber()));
         return findContactByPhoneNumberResponseMap(contacts, user);
     }
 
+    private User findCachedSessionUser(String token, String username, String message) {
+        Session session = sessionService.validateSession(token, username, message);
+        User user = findCachedUser(session.username());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username()));
+        return user;
+    }
+
+    private BulkDeleteContactResponse deleteOwnedContacts(List<String> requestedContactIds, Session session) {
+        return retryOnConflict(() -> {
+            UserCredentials credentials = userRepository.findCredentialsByUsername(session.username());
+            if (credentials == null) throw new UserNotFoundException(String.format("User %s does not exist. Please signup.", session.username()));
+            BulkDelete bulkDelete = prepareBulkDelete(requestedContactIds, contactService.findOwnedContactIds(requestedContactIds, credentials.id()));
+            if (!userRepository.pullContacts(credentials.id(), credentials.version(), bulkDelete.contactIds())) throw new OptimisticLockingFailureException(String.format("Contacts of %s were changed by another request.", session.username()));
+            contactService.deleteContacts(bulkDelete.contactIds());
+            userCache.evict(session.username());
+            return bulkDeleteContactResponseMap(bulkDelete.results(), session);
+        });
+    }
+
+    private User findCachedUser(String username) {
+        return userCache.findByUsername(username, userRepository::findByUsername);
+    }
+
+    private UserCredentials findCredentials(String username) {
+        User cachedUser = userCache.getIfPresent(username);
+        if (cachedUser != null) return userCredentialsMap(cachedUser);
+        return userRepository.findCredentialsByUsername(username);
+    }
+
+    private <T> T retryOnConflict(Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            }
+            catch (OptimisticLockingFailureException error) {
+                if (attempt >= maxWriteAttempts) throw new IllegalStateException(WRITE_CONFLICT);
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(retryBackoff(attempt, writeRetryBackoff).toNanos());
+        }
+        catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Request was interrupted. Please try again.");
+        }
+    }
 }
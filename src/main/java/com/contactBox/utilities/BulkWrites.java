@@ -0,0 +1,106 @@
+package com.contactBox.utilities;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.dataTransferObjects.requests.UpdateContactRequest;
+import com.contactBox.dataTransferObjects.responses.BulkContactResult;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.contactBox.utilities.Mappers.*;
+
+public class BulkWrites {
+
+    public static final int MAX_BULK_SIZE = 5000;
+    public static final String CONTACT_NOT_FOUND = "Contact does not exist. Please try again.";
+    public static final String WRITE_CONFLICT = "Your contacts were changed by another request. Please try again.";
+
+    public static void validateBulkSize(List<?> contacts, String action) {
+        if (contacts == null || contacts.isEmpty()) throw new IllegalArgumentException(String.format("Contacts list is empty. Please enter contacts to %s.", action));
+        if (contacts.size() > MAX_BULK_SIZE) throw new IllegalArgumentException(String.format("Cannot %s more than %d contacts at once.", action, MAX_BULK_SIZE));
+    }
+
+    public static BulkCreate prepareBulkCreate(List<CreateContactRequest> createContactRequests, String ownerId, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        BulkCreate bulkCreate = new BulkCreate(new BulkContactResult[createContactRequests.size()], new ArrayList<>(createContactRequests.size()), new ArrayList<>(createContactRequests.size()));
+        for (int index = 0; index < createContactRequests.size(); index++) {
+            try {
+                bulkCreate.contacts().add(createContactRequestMap(createContactRequests.get(index), ownerId, phoneNumberCanonicalizer));
+                bulkCreate.contactIndexes().add(index);
+            }
+            catch (IllegalArgumentException error) {
+                bulkCreate.results()[index] = failedBulkContactResultMap(index, error.getMessage());
+            }
+        }
+        return bulkCreate;
+    }
+
+    public static BulkUpdate prepareBulkUpdate(List<UpdateContactRequest> updateContactRequests, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        BulkUpdate bulkUpdate = new BulkUpdate(new BulkContactResult[updateContactRequests.size()], new ArrayList<>(updateContactRequests.size()), new ArrayList<>(updateContactRequests.size()), new ArrayList<>(updateContactRequests.size()));
+        for (int index = 0; index < updateContactRequests.size(); index++) {
+            UpdateContactRequest updateContactRequest = updateContactRequests.get(index);
+            try {
+                if (updateContactRequest.getId() == null) {
+                    bulkUpdate.results()[index] = failedBulkContactResultMap(index, CONTACT_NOT_FOUND);
+                    continue;
+                }
+                bulkUpdate.updates().add(updateContactRequestUpdateMap(updateContactRequest, phoneNumberCanonicalizer));
+                bulkUpdate.contactIds().add(updateContactRequest.getId());
+                bulkUpdate.contactIndexes().add(index);
+            }
+            catch (IllegalArgumentException error) {
+                bulkUpdate.results()[index] = failedBulkContactResultMap(index, error.getMessage());
+            }
+        }
+        return bulkUpdate;
+    }
+
+    public static BulkDelete prepareBulkDelete(List<String> requestedContactIds, Set<String> ownedContactIds) {
+        List<BulkContactResult> results = new ArrayList<>(requestedContactIds.size());
+        Set<String> contactIds = new LinkedHashSet<>(requestedContactIds.size() * 4 / 3 + 1);
+        for (int index = 0; index < requestedContactIds.size(); index++) {
+            String contactId = requestedContactIds.get(index);
+            if (!ownedContactIds.contains(contactId) || !contactIds.add(contactId)) {
+                results.add(failedBulkContactResultMap(index, CONTACT_NOT_FOUND));
+                continue;
+            }
+            results.add(bulkContactResultMap(index, contactId));
+        }
+        return new BulkDelete(results, List.copyOf(contactIds));
+    }
+
+    public static Duration retryBackoff(int attempt, Duration writeRetryBackoff) {
+        long maxBackoffNanos = writeRetryBackoff.toNanos() << Math.min(attempt - 1, 20);
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(maxBackoffNanos + 1));
+    }
+
+    public record BulkCreate(BulkContactResult[] results, List<Contact> contacts, List<Integer> contactIndexes) {
+
+        public List<BulkContactResult> complete() {
+            for (int count = 0; count < contacts.size(); count++) {
+                results[contactIndexes.get(count)] = bulkContactResultMap(contactIndexes.get(count), contacts.get(count).getId());
+            }
+            return List.of(results);
+        }
+    }
+
+    public record BulkUpdate(BulkContactResult[] results, List<String> contactIds, List<Update> updates, List<Integer> contactIndexes) {
+
+        public List<BulkContactResult> complete(Map<Integer, String> errors) {
+            for (int count = 0; count < contactIds.size(); count++) {
+                int index = contactIndexes.get(count);
+                results[index] = errors.containsKey(count) ? failedBulkContactResultMap(index, errors.get(count)) : bulkContactResultMap(index, contactIds.get(count));
+            }
+            return List.of(results);
+        }
+    }
+
+    public record BulkDelete(List<BulkContactResult> results, List<String> contactIds) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.contactBox.utilities;
+
+public enum ContactFileFormat {
+    VCARD,
+    CSV
+}
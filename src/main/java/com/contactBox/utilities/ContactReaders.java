@@ -0,0 +1,358 @@
+package com.contactBox.utilities;
+
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.exceptions.InvalidContactRecordException;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class ContactReaders {
+
+    public static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final String RECORD_TOO_LONG_MESSAGE = String.format("Contact is longer than %d characters. Please enter a valid input.", MAX_RECORD_LENGTH);
+
+    private static final Map<String, String> CSV_COLUMNS = Map.ofEntries(
+            Map.entry("firstname", "firstName"),
+            Map.entry("givenname", "firstName"),
+            Map.entry("lastname", "lastName"),
+            Map.entry("familyname", "lastName"),
+            Map.entry("surname", "lastName"),
+            Map.entry("phonenumber", "phoneNumber"),
+            Map.entry("phone", "phoneNumber"),
+            Map.entry("mobile", "phoneNumber"),
+            Map.entry("email", "email"),
+            Map.entry("emailaddress", "email"),
+            Map.entry("buildingnumber", "buildingNumber"),
+            Map.entry("street", "street"),
+            Map.entry("city", "city"),
+            Map.entry("state", "state"),
+            Map.entry("country", "country"),
+            Map.entry("notes", "notes"),
+            Map.entry("note", "notes"));
+
+    public static Iterator<CreateContactRequest> readContacts(Reader reader, ContactFileFormat format) throws IOException {
+        BufferedReader bufferedReader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        skipByteOrderMark(bufferedReader);
+        return switch (format) {
+            case VCARD -> new VCardIterator(bufferedReader);
+            case CSV -> new CsvIterator(bufferedReader);
+        };
+    }
+
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') reader.reset();
+    }
+
+    private abstract static class ContactIterator implements Iterator<CreateContactRequest> {
+
+        private CreateContactRequest nextContact;
+        private InvalidContactRecordException nextError;
+        private boolean isExhausted;
+
+        @Override
+        public boolean hasNext() {
+            if (nextContact != null || nextError != null) return true;
+            if (isExhausted) return false;
+            try {
+                nextContact = readContact();
+            }
+            catch (InvalidContactRecordException error) {
+                nextError = error;
+                return true;
+            }
+            catch (IOException error) {
+                throw new UncheckedIOException(error);
+            }
+            isExhausted = nextContact == null;
+            return !isExhausted;
+        }
+
+        @Override
+        public CreateContactRequest next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            if (nextError != null) {
+                InvalidContactRecordException error = nextError;
+                nextError = null;
+                throw error;
+            }
+            CreateContactRequest contact = nextContact;
+            nextContact = null;
+            return contact;
+        }
+
+        protected abstract CreateContactRequest readContact() throws IOException;
+    }
+
+    private static class VCardIterator extends ContactIterator {
+
+        private final BufferedReader reader;
+        private String pendingLine;
+        private boolean isRecordTooLong;
+
+        private VCardIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected CreateContactRequest readContact() throws IOException {
+            String line;
+            while ((line = readUnfoldedLine()) != null) {
+                if (line.equalsIgnoreCase("BEGIN:VCARD")) {
+                    isRecordTooLong = false;
+                    CreateContactRequest contact = readCard();
+                    if (isRecordTooLong) throw new InvalidContactRecordException(RECORD_TOO_LONG_MESSAGE);
+                    return contact;
+                }
+            }
+            return null;
+        }
+
+        private CreateContactRequest readCard() throws IOException {
+            CreateContactRequest contact = new CreateContactRequest();
+            String formattedName = null;
+            String line;
+            while ((line = readUnfoldedLine()) != null && !line.equalsIgnoreCase("END:VCARD")) {
+                int separator = line.indexOf(':');
+                if (separator < 0) continue;
+                String[] nameAndParameters = line.substring(0, separator).split(";");
+                String name = nameAndParameters[0].substring(nameAndParameters[0].indexOf('.') + 1).toUpperCase();
+                String value = line.substring(separator + 1);
+                if (isQuotedPrintable(nameAndParameters)) value = decodeQuotedPrintable(value);
+                switch (name) {
+                    case "N" -> {
+                        List<String> parts = splitValue(value);
+                        contact.setLastName(blankToNull(parts.get(0)));
+                        if (parts.size() > 1) contact.setFirstName(blankToNull(parts.get(1)));
+                    }
+                    case "FN" -> formattedName = blankToNull(unescape(value));
+                    case "TEL" -> { if (contact.getPhoneNumber() == null) contact.setPhoneNumber(blankToNull(unescape(value))); }
+                    case "EMAIL" -> { if (contact.getEmail() == null) contact.setEmail(blankToNull(unescape(value))); }
+                    case "NOTE" -> contact.setNotes(blankToNull(unescape(value)));
+                    case "ADR" -> {
+                        if (contact.getStreet() != null || contact.getCity() != null) continue;
+                        List<String> parts = splitValue(value);
+                        if (parts.size() > 2) contact.setStreet(blankToNull(parts.get(2)));
+                        if (parts.size() > 3) contact.setCity(blankToNull(parts.get(3)));
+                        if (parts.size() > 4) contact.setState(blankToNull(parts.get(4)));
+                        if (parts.size() > 6) contact.setCountry(blankToNull(parts.get(6)));
+                    }
+                    default -> {}
+                }
+            }
+            if (contact.getFirstName() == null && contact.getLastName() == null && formattedName != null) {
+                int space = formattedName.lastIndexOf(' ');
+                contact.setFirstName(space < 0 ? formattedName : formattedName.substring(0, space).trim());
+                if (space >= 0) contact.setLastName(formattedName.substring(space + 1));
+            }
+            return contact;
+        }
+
+        private String readUnfoldedLine() throws IOException {
+            String line = pendingLine != null ? pendingLine : readPhysicalLine();
+            pendingLine = null;
+            if (line == null) return null;
+            StringBuilder unfoldedLine = new StringBuilder(line);
+            boolean isQuotedPrintable = line.substring(0, Math.max(line.indexOf(':'), 0)).toUpperCase().contains("QUOTED-PRINTABLE");
+            String nextLine;
+            while ((nextLine = readPhysicalLine()) != null) {
+                if (!nextLine.isEmpty() && (nextLine.charAt(0) == ' ' || nextLine.charAt(0) == '\t')) appendBounded(unfoldedLine, nextLine.substring(1));
+                else if (isQuotedPrintable && !unfoldedLine.isEmpty() && unfoldedLine.charAt(unfoldedLine.length() - 1) == '=') {
+                    unfoldedLine.setLength(unfoldedLine.length() - 1);
+                    appendBounded(unfoldedLine, nextLine);
+                }
+                else {
+                    pendingLine = nextLine;
+                    break;
+                }
+            }
+            return unfoldedLine.toString().strip();
+        }
+
+        private void appendBounded(StringBuilder unfoldedLine, String continuation) {
+            if (unfoldedLine.length() + continuation.length() > MAX_RECORD_LENGTH) isRecordTooLong = true;
+            else unfoldedLine.append(continuation);
+        }
+
+        private String readPhysicalLine() throws IOException {
+            int character = reader.read();
+            if (character < 0) return null;
+            StringBuilder line = new StringBuilder();
+            while (character >= 0 && character != '\n') {
+                if (line.length() < MAX_RECORD_LENGTH) line.append((char) character);
+                else isRecordTooLong = true;
+                character = reader.read();
+            }
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') line.setLength(line.length() - 1);
+            return line.toString();
+        }
+
+        private static boolean isQuotedPrintable(String[] nameAndParameters) {
+            for (int index = 1; index < nameAndParameters.length; index++) {
+                if (nameAndParameters[index].equalsIgnoreCase("ENCODING=QUOTED-PRINTABLE") || nameAndParameters[index].equalsIgnoreCase("QUOTED-PRINTABLE")) return true;
+            }
+            return false;
+        }
+
+        private static String decodeQuotedPrintable(String value) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length());
+            for (int index = 0; index < value.length(); index++) {
+                char character = value.charAt(index);
+                if (character == '=' && index + 2 < value.length() && isHexDigit(value.charAt(index + 1)) && isHexDigit(value.charAt(index + 2))) {
+                    bytes.write(Integer.parseInt(value.substring(index + 1, index + 3), 16));
+                    index += 2;
+                }
+                else bytes.writeBytes(Character.toString(character).getBytes(StandardCharsets.UTF_8));
+            }
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+
+        private static boolean isHexDigit(char character) {
+            return Character.digit(character, 16) >= 0;
+        }
+
+        private static List<String> splitValue(String value) {
+            List<String> parts = new ArrayList<>();
+            StringBuilder part = new StringBuilder();
+            for (int index = 0; index < value.length(); index++) {
+                char character = value.charAt(index);
+                if (character == '\\' && index + 1 < value.length()) part.append(character).append(value.charAt(++index));
+                else if (character == ';') {
+                    parts.add(unescape(part.toString()));
+                    part.setLength(0);
+                }
+                else part.append(character);
+            }
+            parts.add(unescape(part.toString()));
+            return parts;
+        }
+
+        private static String unescape(String value) {
+            if (value.indexOf('\\') < 0) return value;
+            StringBuilder unescaped = new StringBuilder(value.length());
+            for (int index = 0; index < value.length(); index++) {
+                char character = value.charAt(index);
+                if (character != '\\' || index + 1 == value.length()) {
+                    unescaped.append(character);
+                    continue;
+                }
+                char escaped = value.charAt(++index);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            }
+            return unescaped.toString();
+        }
+    }
+
+    private static class CsvIterator extends ContactIterator {
+
+        private final BufferedReader reader;
+        private String[] columns;
+        private int recordLength;
+        private int fieldLength;
+        private boolean isRecordTooLong;
+
+        private CsvIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected CreateContactRequest readContact() throws IOException {
+            if (columns == null) columns = readHeader();
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) return null;
+                if (isRecordTooLong) throw new InvalidContactRecordException(RECORD_TOO_LONG_MESSAGE);
+            } while (record.size() == 1 && record.getFirst().isBlank());
+            Map<String, String> fields = new HashMap<>();
+            for (int index = 0; index < Math.min(columns.length, record.size()); index++) {
+                if (columns[index] != null && !fields.containsKey(columns[index])) fields.put(columns[index], blankToNull(record.get(index)));
+            }
+            CreateContactRequest contact = new CreateContactRequest();
+            contact.setFirstName(fields.get("firstName"));
+            contact.setLastName(fields.get("lastName"));
+            contact.setPhoneNumber(fields.get("phoneNumber"));
+            contact.setEmail(fields.get("email"));
+            contact.setBuildingNumber(fields.get("buildingNumber"));
+            contact.setStreet(fields.get("street"));
+            contact.setCity(fields.get("city"));
+            contact.setState(fields.get("state"));
+            contact.setCountry(fields.get("country"));
+            contact.setNotes(fields.get("notes"));
+            return contact;
+        }
+
+        private String[] readHeader() throws IOException {
+            List<String> header = readRecord();
+            if (header == null) return new String[0];
+            if (isRecordTooLong) throw new IllegalArgumentException(String.format("CSV header is longer than %d characters. Please enter a valid input.", MAX_RECORD_LENGTH));
+            String[] headerColumns = new String[header.size()];
+            boolean hasContactColumn = false;
+            for (int index = 0; index < header.size(); index++) {
+                String column = header.get(index).replaceAll("[^A-Za-z]", "").toLowerCase();
+                headerColumns[index] = CSV_COLUMNS.get(column);
+                hasContactColumn |= headerColumns[index] != null;
+            }
+            if (!hasContactColumn) throw new IllegalArgumentException("CSV header has no contact columns. Please enter a valid input.");
+            return headerColumns;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int character = reader.read();
+            if (character < 0) return null;
+            List<String> record = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isQuoted = false;
+            recordLength = 0;
+            fieldLength = 0;
+            isRecordTooLong = false;
+            while (character >= 0) {
+                if (isQuoted) {
+                    if (character == '"') {
+                        reader.mark(1);
+                        int nextCharacter = reader.read();
+                        if (nextCharacter == '"') append(field, '"');
+                        else {
+                            isQuoted = false;
+                            if (nextCharacter >= 0) reader.reset();
+                        }
+                    }
+                    else append(field, (char) character);
+                }
+                else if (character == '"' && fieldLength == 0) isQuoted = true;
+                else if (character == ',') {
+                    if (++recordLength > MAX_RECORD_LENGTH) isRecordTooLong = true;
+                    else record.add(field.toString());
+                    field.setLength(0);
+                    fieldLength = 0;
+                }
+                else if (character == '\n') break;
+                else if (character != '\r') append(field, (char) character);
+                character = reader.read();
+            }
+            record.add(field.toString());
+            return record;
+        }
+
+        private void append(StringBuilder field, char character) {
+            if (++recordLength > MAX_RECORD_LENGTH) isRecordTooLong = true;
+            else field.append(character);
+            fieldLength++;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,76 @@
+package com.contactBox.utilities;
+
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.dataTransferObjects.requests.UpdateContactRequest;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.contactBox.utilities.ContactValidator.rule;
+
+public class ContactRules {
+
+    public static final int MAX_NAME_LENGTH = 100;
+    public static final int MAX_EMAIL_LENGTH = 254;
+
+    public static final ContactValidator<CreateContactRequest> CREATE_CONTACT_RULES = contactRules(CreateContactRequest::getFirstName,
+            CreateContactRequest::getLastName, CreateContactRequest::getPhoneNumber, CreateContactRequest::getEmail);
+
+    public static final ContactValidator<UpdateContactRequest> UPDATE_CONTACT_RULES = contactRules(UpdateContactRequest::getFirstName,
+            UpdateContactRequest::getLastName, UpdateContactRequest::getPhoneNumber, UpdateContactRequest::getEmail);
+
+    private static <T> ContactValidator<T> contactRules(Function<T, String> firstName, Function<T, String> lastName,
+                                                        Function<T, String> phoneNumber, Function<T, String> email) {
+        return new ContactValidator<>(List.of(
+                rule(firstName, ContactRules::isNameLengthValid, String.format("First name cannot be longer than %d characters. Please enter a valid input.", MAX_NAME_LENGTH)),
+                rule(lastName, ContactRules::isNameLengthValid, String.format("Last name cannot be longer than %d characters. Please enter a valid input.", MAX_NAME_LENGTH)),
+                rule(phoneNumber, ContactRules::isPhoneNumberValid, "Please enter a valid phone number."),
+                rule(email, ContactRules::isEmailValid, "Please enter a valid email address.")));
+    }
+
+    public static String normalizeName(String name) {
+        return name == null ? null : name.toLowerCase().trim();
+    }
+
+    public static boolean isNameLengthValid(String name) {
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') start++;
+        while (end > start && name.charAt(end - 1) <= ' ') end--;
+        return end - start <= MAX_NAME_LENGTH;
+    }
+
+    public static boolean isPhoneNumberValid(String phoneNumber) {
+        boolean hasDigit = false;
+        for (int index = phoneNumber.startsWith("+") ? 1 : 0; index < phoneNumber.length(); index++) {
+            char character = phoneNumber.charAt(index);
+            if (character >= '0' && character <= '9') hasDigit = true;
+            else if (!isPhoneNumberSeparator(character)) return false;
+        }
+        return hasDigit;
+    }
+
+    public static boolean isEmailValid(String email) {
+        if (email.isEmpty()) return true;
+        if (email.length() > MAX_EMAIL_LENGTH) return false;
+        int at = -1;
+        int lastDot = -1;
+        for (int index = 0; index < email.length(); index++) {
+            char character = email.charAt(index);
+            if (character <= ' ') return false;
+            if (character == '@') {
+                if (at != -1) return false;
+                at = index;
+            }
+            else if (character == '.' && at != -1) lastDot = index;
+        }
+        return at > 0 && lastDot > at + 1 && lastDot < email.length() - 1;
+    }
+
+    private static boolean isPhoneNumberSeparator(char character) {
+        return switch (character) {
+            case ' ', '\t', '\n', '\u000B', '\f', '\r', '(', ')', '.', '-' -> true;
+            default -> false;
+        };
+    }
+}
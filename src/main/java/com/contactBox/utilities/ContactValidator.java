@@ -0,0 +1,38 @@
+package com.contactBox.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class ContactValidator<T> {
+
+    private final List<Rule<T>> rules;
+
+    public ContactValidator(List<Rule<T>> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    public static <T> Rule<T> rule(Function<T, String> field, Predicate<String> check, String message) {
+        return new Rule<>(field, check, message);
+    }
+
+    public List<String> validate(T request) {
+        List<String> violations = null;
+        for (Rule<T> rule : rules) {
+            String value = rule.field().apply(request);
+            if (value == null || rule.check().test(value)) continue;
+            if (violations == null) violations = new ArrayList<>(rules.size());
+            violations.add(rule.message());
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    public void check(T request) {
+        List<String> violations = validate(request);
+        if (!violations.isEmpty()) throw new IllegalArgumentException(String.join(" ", violations));
+    }
+
+    public record Rule<T>(Function<T, String> field, Predicate<String> check, String message) {
+    }
+}
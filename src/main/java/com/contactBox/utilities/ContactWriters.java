@@ -0,0 +1,159 @@
+package com.contactBox.utilities;
+
+import com.contactBox.data.models.Address;
+import com.contactBox.data.models.Contact;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public class ContactWriters {
+
+    public static final String CSV_HEADER = "firstName,lastName,phoneNumber,email,buildingNumber,street,city,state,country,notes";
+
+    private static final int WRITER_BUFFER_SIZE = 64 * 1024;
+    private static final int VCARD_LINE_LENGTH = 75;
+
+    public static void writeContacts(Stream<Contact> contacts, OutputStream outputStream, ContactFileFormat format) throws IOException {
+        switch (format) {
+            case VCARD -> writeVCards(contacts, outputStream);
+            case CSV -> writeCsv(contacts, outputStream);
+        }
+    }
+
+    public static void writeVCards(Stream<Contact> contacts, OutputStream outputStream) throws IOException {
+        try (contacts; Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE)) {
+            Iterator<Contact> iterator = contacts.iterator();
+            while (iterator.hasNext()) {
+                writeVCard(iterator.next(), writer);
+            }
+        }
+    }
+
+    public static void writeCsv(Stream<Contact> contacts, OutputStream outputStream) throws IOException {
+        try (contacts; Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE)) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            Iterator<Contact> iterator = contacts.iterator();
+            while (iterator.hasNext()) {
+                Contact contact = iterator.next();
+                Address address = contact.getAddress() == null ? new Address() : contact.getAddress();
+                writeCsvField(contact.getFirstName(), writer, false);
+                writeCsvField(contact.getLastName(), writer, true);
+                writeCsvField(contact.getPhoneNumber(), writer, true);
+                writeCsvField(contact.getEmail(), writer, true);
+                writeCsvField(address.getBuildingNumber(), writer, true);
+                writeCsvField(address.getStreet(), writer, true);
+                writeCsvField(address.getCity(), writer, true);
+                writeCsvField(address.getState(), writer, true);
+                writeCsvField(address.getCountry(), writer, true);
+                writeCsvField(contact.getNotes(), writer, true);
+                writer.write("\r\n");
+            }
+        }
+    }
+
+    public static void writeNdjson(Stream<Contact> contacts, OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        try (contacts; JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            Iterator<Contact> iterator = contacts.iterator();
+            boolean isFirstContact = true;
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (isFirstContact) {
+                    generator.flush();
+                    isFirstContact = false;
+                }
+            }
+            if (!isFirstContact) generator.writeRaw('\n');
+        }
+    }
+
+    private static void writeVCard(Contact contact, Writer writer) throws IOException {
+        writer.write("BEGIN:VCARD\r\nVERSION:4.0\r\n");
+        writeVCardProperty("FN", escapeVCardText(formattedNameOf(contact)), writer);
+        writeVCardProperty("N", escapeVCardText(contact.getLastName()) + ";" + escapeVCardText(contact.getFirstName()) + ";;;", writer);
+        if (contact.getPhoneNumber() != null) writeVCardProperty("TEL;VALUE=text", escapeVCardText(contact.getPhoneNumber()), writer);
+        if (contact.getEmail() != null) writeVCardProperty("EMAIL", escapeVCardText(contact.getEmail()), writer);
+        Address address = contact.getAddress();
+        if (address != null && (address.getBuildingNumber() != null || address.getStreet() != null || address.getCity() != null || address.getState() != null || address.getCountry() != null)) {
+            String street = address.getBuildingNumber() == null ? address.getStreet() : address.getStreet() == null ? address.getBuildingNumber() : address.getBuildingNumber() + " " + address.getStreet();
+            writeVCardProperty("ADR", ";;" + escapeVCardText(street) + ";" + escapeVCardText(address.getCity()) + ";" + escapeVCardText(address.getState()) + ";;" + escapeVCardText(address.getCountry()), writer);
+        }
+        if (contact.getNotes() != null) writeVCardProperty("NOTE", escapeVCardText(contact.getNotes()), writer);
+        writer.write("END:VCARD\r\n");
+    }
+
+    private static String formattedNameOf(Contact contact) {
+        if (contact.getFirstName() != null && contact.getLastName() != null) return contact.getFirstName() + " " + contact.getLastName();
+        if (contact.getFirstName() != null) return contact.getFirstName();
+        if (contact.getLastName() != null) return contact.getLastName();
+        if (contact.getPhoneNumber() != null) return contact.getPhoneNumber();
+        return contact.getEmail();
+    }
+
+    private static void writeVCardProperty(String name, String value, Writer writer) throws IOException {
+        writer.write(name);
+        writer.write(':');
+        int lineLength = name.length() + 1;
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            int characterLength = character < 0x80 ? 1 : character < 0x800 ? 2 : Character.isHighSurrogate(character) ? 4 : Character.isLowSurrogate(character) ? 0 : 3;
+            if (lineLength + characterLength > VCARD_LINE_LENGTH) {
+                writer.write("\r\n ");
+                lineLength = 1;
+            }
+            writer.write(character);
+            lineLength += characterLength;
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeVCardText(String value) {
+        if (value == null) return "";
+        StringBuilder escaped = null;
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            String replacement = switch (character) {
+                case '\\' -> "\\\\";
+                case ',' -> "\\,";
+                case ';' -> "\\;";
+                case '\n' -> "\\n";
+                case '\r' -> "";
+                default -> null;
+            };
+            if (replacement == null) {
+                if (escaped != null) escaped.append(character);
+                continue;
+            }
+            if (escaped == null) escaped = new StringBuilder(value.length() + 8).append(value, 0, index);
+            escaped.append(replacement);
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+
+    private static void writeCsvField(String value, Writer writer, boolean isSeparated) throws IOException {
+        if (isSeparated) writer.write(',');
+        if (value == null) return;
+        boolean needsQuotes = false;
+        for (int index = 0; index < value.length() && !needsQuotes; index++) {
+            char character = value.charAt(index);
+            needsQuotes = character == ',' || character == '"' || character == '\n' || character == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
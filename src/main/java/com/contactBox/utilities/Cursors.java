@@ -0,0 +1,25 @@
+package com.contactBox.utilities;
+
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class Cursors {
+
+    public static String encodeCursor(String contactId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(contactId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ObjectId decodeCursor(String cursor) {
+        String contactId;
+        try {
+            contactId = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException error) {
+            throw new IllegalArgumentException("Invalid cursor. Please enter a valid input.");
+        }
+        if (!ObjectId.isValid(contactId)) throw new IllegalArgumentException("Invalid cursor. Please enter a valid input.");
+        return new ObjectId(contactId);
+    }
+}
@@ -7,11 +7,8 @@ import com.contactBox.exceptions.ContactNotFoundException;
 public class FindContact {
 
     public static Contact findContactInUserList(String contactId, User user) {
-        for (int count = 0; count < user.getContacts().size(); count++) {
-            if (user.getContacts().get(count).getId().equals(contactId)){
-                return user.getContacts().get(count);
-            }
-        }
-        throw new ContactNotFoundException("Contact does not exist. Please try again.");
+        Contact contact = user.getContacts().findById(contactId);
+        if (contact == null) throw new ContactNotFoundException("Contact does not exist. Please try again.");
+        return contact;
     }
 }
@@ -0,0 +1,23 @@
+package com.contactBox.utilities;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+public class Futures {
+
+    public static <T> CompletableFuture<T> defer(Supplier<CompletableFuture<T>> future) {
+        try {
+            return future.get();
+        }
+        catch (RuntimeException error) {
+            return CompletableFuture.failedFuture(error);
+        }
+    }
+
+    public static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) error = error.getCause();
+        return error;
+    }
+}
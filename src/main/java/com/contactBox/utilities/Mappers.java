@@ -1,57 +1,83 @@
 package com.contactBox.utilities;
 
 import com.contactBox.data.models.Address;
+import com.contactBox.data.models.BulkUpdateResult;
 import com.contactBox.data.models.Contact;
 import com.contactBox.data.models.User;
+import com.contactBox.data.models.UserCredentials;
+import com.contactBox.data.sessions.Session;
 import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
 import com.contactBox.dataTransferObjects.requests.SignUpRequest;
 import com.contactBox.dataTransferObjects.requests.UpdateContactRequest;
 import com.contactBox.dataTransferObjects.responses.*;
+import com.contactBox.services.ContactImportProgress;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import static com.contactBox.utilities.ContactRules.CREATE_CONTACT_RULES;
+import static com.contactBox.utilities.ContactRules.UPDATE_CONTACT_RULES;
+import static com.contactBox.utilities.ContactRules.normalizeName;
 import static com.contactBox.utilities.ValidateInputs.areAllFieldsNullOrEmpty;
-import static com.contactBox.utilities.ValidateInputs.doesPhoneNumberContainNonDigitCharacters;
 
 public class Mappers {
 
     public static User signUpRequestMap(SignUpRequest signUpRequest) {
         User user = new User();
-        user.setUsername(signUpRequest.getUsername().toLowerCase());
+        user.setUsername(signUpRequest.getUsername());
         user.setPassword(signUpRequest.getPassword());
         return user;
     }
 
-    public static SignUpResponse signUpResponseMap(User user) {
+    public static SignUpResponse signUpResponseMap(User user, String token) {
         SignUpResponse signUpResponse = new SignUpResponse();
         signUpResponse.setUserId(user.getId());
         signUpResponse.setUsername(user.getUsername());
+        signUpResponse.setToken(token);
         signUpResponse.setDateOfRegistration(user.getDateOfRegistration().format(DateTimeFormatter.ofPattern("MMM dd, yyyy")));
         return signUpResponse;
     }
 
-    public static LogoutResponse logoutResponseMap(User user) {
+    public static LogoutResponse logoutResponseMap(Session session) {
         LogoutResponse logoutResponse = new LogoutResponse();
-        logoutResponse.setUserId(user.getId());
-        logoutResponse.setUsername(user.getUsername());
+        logoutResponse.setUserId(session.userId());
+        logoutResponse.setUsername(session.username());
         return logoutResponse;
     }
 
-    public static LoginResponse loginResponseMap(User user) {
+    public static UserCredentials userCredentialsMap(User user) {
+        return new UserCredentials(user.getId(), user.getUsername(), user.getPassword(), user.getVersion());
+    }
+
+    public static LoginResponse loginResponseMap(UserCredentials credentials, String token) {
         LoginResponse loginResponse = new LoginResponse();
-        loginResponse.setUserId(user.getId());
-        loginResponse.setUsername(user.getUsername());
+        loginResponse.setUserId(credentials.id());
+        loginResponse.setUsername(credentials.username());
+        loginResponse.setToken(token);
         return loginResponse;
     }
 
-    public static Contact createContactRequestMap(CreateContactRequest createContactRequest) {
+    public static Contact createContactRequestMap(CreateContactRequest createContactRequest, User user, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        return createContactRequestMap(createContactRequest, user.getId(), phoneNumberCanonicalizer);
+    }
+
+    public static Contact createContactRequestMap(CreateContactRequest createContactRequest, String ownerId, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        Contact contact = createContactRequestMap(createContactRequest, phoneNumberCanonicalizer);
+        contact.setOwnerId(ownerId);
+        return contact;
+    }
+
+    public static Contact createContactRequestMap(CreateContactRequest createContactRequest, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
         if (areAllFieldsNullOrEmpty(createContactRequest)) throw new IllegalArgumentException("All Fields are null or empty. Please enter a valid input to create contact.");
-        if (createContactRequest.getPhoneNumber() != null && doesPhoneNumberContainNonDigitCharacters(createContactRequest.getPhoneNumber())) throw new IllegalArgumentException("Please enter a valid phone number.");
+        CREATE_CONTACT_RULES.check(createContactRequest);
         Contact contact = new Contact();
-        if (createContactRequest.getFirstName() != null) contact.setFirstName(createContactRequest.getFirstName().toLowerCase().trim());
-        if (createContactRequest.getLastName() != null) contact.setLastName(createContactRequest.getLastName().toLowerCase().trim());
+        contact.setFirstName(normalizeName(createContactRequest.getFirstName()));
+        contact.setLastName(normalizeName(createContactRequest.getLastName()));
         contact.setPhoneNumber(createContactRequest.getPhoneNumber());
+        contact.setCanonicalPhoneNumber(phoneNumberCanonicalizer.canonicalize(createContactRequest.getPhoneNumber()));
         contact.setEmail(createContactRequest.getEmail());
         contact.setNotes(createContactRequest.getNotes());
         createContactRequestAddressMap(createContactRequest, contact.getAddress());
@@ -66,36 +92,100 @@ public class Mappers {
         address.setCountry(createContactRequest.getCountry());
     }
 
-    public static CreateContactResponse createContactResponseMap(Contact contact, User user){
+    public static CreateContactResponse createContactResponseMap(Contact contact, Session session){
         CreateContactResponse createContactResponse = new CreateContactResponse();
-        createContactResponse.setUserId(user.getId());
-        createContactResponse.setUsername(user.getUsername());
+        createContactResponse.setUserId(session.userId());
+        createContactResponse.setUsername(session.username());
         createContactResponse.setContactId(contact.getId());
         return createContactResponse;
     }
 
-    public static Contact updateContactRequestMap(UpdateContactRequest updateContactRequest, Contact contact) {
-        if (updateContactRequest.getPhoneNumber() != null && doesPhoneNumberContainNonDigitCharacters(updateContactRequest.getPhoneNumber())) throw new IllegalArgumentException("Please enter a valid phone number.");
-        if (updateContactRequest.getFirstName() != null) contact.setFirstName(updateContactRequest.getFirstName().toLowerCase().trim());
-        if (updateContactRequest.getLastName() != null) contact.setLastName(updateContactRequest.getLastName().toLowerCase().trim());
-        if (updateContactRequest.getPhoneNumber() != null) contact.setPhoneNumber(updateContactRequest.getPhoneNumber());
-        if (updateContactRequest.getEmail() != null) contact.setEmail(updateContactRequest.getEmail());
-        if (updateContactRequest.getNotes() != null) contact.setNotes(updateContactRequest.getNotes());
-        updateContactRequestAddressMap(updateContactRequest, contact.getAddress());
-        return contact;
+    public static BulkContactResult bulkContactResultMap(int index, String contactId) {
+        BulkContactResult bulkContactResult = new BulkContactResult();
+        bulkContactResult.setIndex(index);
+        bulkContactResult.setSuccessful(true);
+        bulkContactResult.setContactId(contactId);
+        return bulkContactResult;
+    }
+
+    public static BulkContactResult failedBulkContactResultMap(int index, String message) {
+        BulkContactResult bulkContactResult = new BulkContactResult();
+        bulkContactResult.setIndex(index);
+        bulkContactResult.setSuccessful(false);
+        bulkContactResult.setMessage(message);
+        return bulkContactResult;
+    }
+
+    public static BulkCreateContactResponse bulkCreateContactResponseMap(List<BulkContactResult> results, Session session) {
+        BulkCreateContactResponse bulkCreateContactResponse = new BulkCreateContactResponse();
+        bulkCreateContactResponse.setUserId(session.userId());
+        bulkCreateContactResponse.setUsername(session.username());
+        bulkCreateContactResponse.setResults(results);
+        bulkCreateContactResponse.setCreatedCount(countSuccessfulResults(results));
+        bulkCreateContactResponse.setFailedCount(results.size() - bulkCreateContactResponse.getCreatedCount());
+        return bulkCreateContactResponse;
     }
 
-    private static void updateContactRequestAddressMap(UpdateContactRequest updateContactRequest, Address address) {
-        if (updateContactRequest.getBuildingNumber() != null) address.setBuildingNumber(updateContactRequest.getBuildingNumber());
-        if (updateContactRequest.getCity() != null) address.setCity(updateContactRequest.getCity());
-        if (updateContactRequest.getStreet() != null) address.setStreet(updateContactRequest.getStreet());
-        if (updateContactRequest.getState() != null) address.setState(updateContactRequest.getState());
-        if (updateContactRequest.getCountry() != null) address.setCountry(updateContactRequest.getCountry());
+    public static BulkUpdateContactResponse bulkUpdateContactResponseMap(List<BulkContactResult> results, Session session) {
+        BulkUpdateContactResponse bulkUpdateContactResponse = new BulkUpdateContactResponse();
+        bulkUpdateContactResponse.setUserId(session.userId());
+        bulkUpdateContactResponse.setUsername(session.username());
+        bulkUpdateContactResponse.setResults(results);
+        bulkUpdateContactResponse.setUpdatedCount(countSuccessfulResults(results));
+        bulkUpdateContactResponse.setFailedCount(results.size() - bulkUpdateContactResponse.getUpdatedCount());
+        return bulkUpdateContactResponse;
     }
 
-    public static UpdateContactResponse updateContactResponseMap(Contact contact, User user) {
+    public static BulkDeleteContactResponse bulkDeleteContactResponseMap(List<BulkContactResult> results, Session session) {
+        BulkDeleteContactResponse bulkDeleteContactResponse = new BulkDeleteContactResponse();
+        bulkDeleteContactResponse.setUserId(session.userId());
+        bulkDeleteContactResponse.setUsername(session.username());
+        bulkDeleteContactResponse.setResults(results);
+        bulkDeleteContactResponse.setDeletedCount(countSuccessfulResults(results));
+        bulkDeleteContactResponse.setFailedCount(results.size() - bulkDeleteContactResponse.getDeletedCount());
+        return bulkDeleteContactResponse;
+    }
+
+    public static Map<Integer, String> bulkUpdateErrorsMap(List<String> contactIds, BulkUpdateResult bulkUpdateResult) {
+        Map<Integer, String> errors = new HashMap<>(bulkUpdateResult.errors());
+        for (int index = 0; index < contactIds.size(); index++) {
+            if (errors.containsKey(index) || bulkUpdateResult.matchedContactIds().contains(contactIds.get(index))) continue;
+            errors.put(index, "Contact does not exist. Please try again.");
+        }
+        return errors;
+    }
+
+    private static int countSuccessfulResults(List<BulkContactResult> results) {
+        int successfulResults = 0;
+        for (BulkContactResult result : results) {
+            if (result.isSuccessful()) successfulResults++;
+        }
+        return successfulResults;
+    }
+
+    public static Update updateContactRequestUpdateMap(UpdateContactRequest updateContactRequest, PhoneNumberCanonicalizer phoneNumberCanonicalizer) {
+        UPDATE_CONTACT_RULES.check(updateContactRequest);
+        Update update = new Update();
+        if (updateContactRequest.getFirstName() != null) update.set("firstName", normalizeName(updateContactRequest.getFirstName()));
+        if (updateContactRequest.getLastName() != null) update.set("lastName", normalizeName(updateContactRequest.getLastName()));
+        if (updateContactRequest.getPhoneNumber() != null) {
+            update.set("phoneNumber", updateContactRequest.getPhoneNumber());
+            update.set("canonicalPhoneNumber", phoneNumberCanonicalizer.canonicalize(updateContactRequest.getPhoneNumber()));
+        }
+        if (updateContactRequest.getEmail() != null) update.set("email", updateContactRequest.getEmail());
+        if (updateContactRequest.getNotes() != null) update.set("notes", updateContactRequest.getNotes());
+        if (updateContactRequest.getBuildingNumber() != null) update.set("address.buildingNumber", updateContactRequest.getBuildingNumber());
+        if (updateContactRequest.getStreet() != null) update.set("address.street", updateContactRequest.getStreet());
+        if (updateContactRequest.getCity() != null) update.set("address.city", updateContactRequest.getCity());
+        if (updateContactRequest.getState() != null) update.set("address.state", updateContactRequest.getState());
+        if (updateContactRequest.getCountry() != null) update.set("address.country", updateContactRequest.getCountry());
+        if (update.getUpdateObject().isEmpty()) throw new IllegalArgumentException("All Fields are null. Please enter a valid input to update contact.");
+        return update;
+    }
+
+    public static UpdateContactResponse updateContactResponseMap(Contact contact, String userId) {
         UpdateContactResponse updateContactResponse = new UpdateContactResponse();
-        updateContactResponse.setUserId(user.getId());
+        updateContactResponse.setUserId(userId);
         updateContactResponse.setContactId(contact.getId());
         return updateContactResponse;
     }
@@ -106,19 +196,20 @@ public class Mappers {
         return findContactByIdResponse;
     }
 
-    public static DeleteContactResponse deleteContactResponseMap(Contact contact, User user ) {
+    public static DeleteContactResponse deleteContactResponseMap(Contact contact, Session session) {
         DeleteContactResponse deleteContactResponse = new DeleteContactResponse();
-        deleteContactResponse.setUserId(user.getId());
-        deleteContactResponse.setUsername(user.getUsername());
+        deleteContactResponse.setUserId(session.userId());
+        deleteContactResponse.setUsername(session.username());
         deleteContactResponse.setContactId(contact.getId());
         return deleteContactResponse;
     }
 
-    public static FindAllContactsResponse findAllContactsResponseMap(List<Contact> contacts, User user) {
+    public static FindAllContactsResponse findAllContactsResponseMap(List<Contact> contacts, String nextCursor, User user) {
         FindAllContactsResponse findAllContactsResponse = new FindAllContactsResponse();
         findAllContactsResponse.setUserId(user.getId());
         findAllContactsResponse.setUsername(user.getUsername());
         findAllContactsResponse.setContacts(contacts);
+        findAllContactsResponse.setNextCursor(nextCursor);
         return findAllContactsResponse;
     }
 
@@ -138,4 +229,24 @@ public class Mappers {
         return findContactByPhoneNumberResponse;
     }
 
+
+    public static ContactImportError contactImportErrorMap(int recordNumber, String message) {
+        ContactImportError contactImportError = new ContactImportError();
+        contactImportError.setRecordNumber(recordNumber);
+        contactImportError.setMessage(message);
+        return contactImportError;
+    }
+
+    public static ContactImportResponse contactImportResponseMap(ContactImportProgress contactImportProgress) {
+        ContactImportResponse contactImportResponse = new ContactImportResponse();
+        contactImportResponse.setUserId(contactImportProgress.getUser().getId());
+        contactImportResponse.setUsername(contactImportProgress.getUser().getUsername());
+        contactImportResponse.setFormat(contactImportProgress.getFormat().name());
+        contactImportResponse.setStatus(contactImportProgress.getStatus().name());
+        contactImportResponse.setProcessedCount(contactImportProgress.getProcessedCount());
+        contactImportResponse.setImportedCount(contactImportProgress.getImportedCount());
+        contactImportResponse.setFailedCount(contactImportProgress.getFailedCount());
+        contactImportResponse.setErrors(contactImportProgress.getErrors());
+        return contactImportResponse;
+    }
 }
@@ -0,0 +1,12 @@
+package com.contactBox.utilities;
+
+public record PhoneNumberCanonicalizer(String defaultCountryCode) {
+
+    public PhoneNumberCanonicalizer {
+        if (defaultCountryCode == null || !defaultCountryCode.matches("[1-9][0-9]{0,2}")) throw new IllegalArgumentException("contactbox.phone-numbers.default-country-code must be 1 to 3 digits without a leading + or 0.");
+    }
+
+    public String canonicalize(String phoneNumber) {
+        return PhoneNumbers.canonicalize(phoneNumber, defaultCountryCode);
+    }
+}
@@ -0,0 +1,33 @@
+package com.contactBox.utilities;
+
+public class PhoneNumbers {
+
+    public static final String DEFAULT_COUNTRY_CODE = "234";
+    public static final int SUFFIX_LENGTH = 7;
+
+    public static String canonicalize(String phoneNumber, String defaultCountryCode) {
+        if (phoneNumber == null) return null;
+        String digits = digitsOf(phoneNumber);
+        if (digits.isEmpty()) return null;
+        if (phoneNumber.trim().startsWith("+")) return "+" + digits;
+        if (digits.startsWith("00")) return "+" + digits.substring(2);
+        if (digits.startsWith("0")) return "+" + defaultCountryCode + digits.substring(1);
+        return "+" + digits;
+    }
+
+    public static String suffixOf(String phoneNumber) {
+        if (phoneNumber == null) return null;
+        String digits = digitsOf(phoneNumber);
+        if (digits.length() < SUFFIX_LENGTH) return null;
+        return digits.substring(digits.length() - SUFFIX_LENGTH);
+    }
+
+    public static String digitsOf(String phoneNumber) {
+        StringBuilder digits = new StringBuilder(phoneNumber.length());
+        for (int index = 0; index < phoneNumber.length(); index++) {
+            char character = phoneNumber.charAt(index);
+            if (character >= '0' && character <= '9') digits.append(character);
+        }
+        return digits.toString();
+    }
+}
@@ -1,24 +1,32 @@
 package com.contactBox.utilities;
 
 import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.dataTransferObjects.requests.SignUpRequest;
 
 public class ValidateInputs {
 
     public static boolean areAllFieldsNullOrEmpty(CreateContactRequest createContactRequest) {
-        String[] createContactInputs = {createContactRequest.getFirstName(), createContactRequest.getLastName(),
-                createContactRequest.getPhoneNumber(), createContactRequest.getEmail(), createContactRequest.getNotes(),
-                createContactRequest.getBuildingNumber(), createContactRequest.getStreet(), createContactRequest.getCity(),
-                createContactRequest.getState(), createContactRequest.getCountry()};
-
-        for (String createContactInput : createContactInputs) {
-            if (createContactInput != null && !createContactInput.isEmpty()) return false;
-        }
-        return true;
+        return isNullOrEmpty(createContactRequest.getFirstName()) && isNullOrEmpty(createContactRequest.getLastName())
+                && isNullOrEmpty(createContactRequest.getPhoneNumber()) && isNullOrEmpty(createContactRequest.getEmail())
+                && isNullOrEmpty(createContactRequest.getNotes()) && isNullOrEmpty(createContactRequest.getBuildingNumber())
+                && isNullOrEmpty(createContactRequest.getStreet()) && isNullOrEmpty(createContactRequest.getCity())
+                && isNullOrEmpty(createContactRequest.getState()) && isNullOrEmpty(createContactRequest.getCountry());
     }
 
-    public static boolean doesPhoneNumberContainNonDigitCharacters(String phoneNumber) {
-        return !phoneNumber.matches("\\d+");
+    public static void validateUsername(String username) {
+        if (username == null) throw new IllegalArgumentException("Username cannot be null. Please enter a valid input.");
+        if (username.isEmpty()) throw new IllegalArgumentException("Username cannot be empty. Please enter a valid input.");
+        if (username.contains(" ")) throw new IllegalArgumentException("Username cannot contain spaces. Please enter a valid input.");
     }
 
+    public static void validatePassword(SignUpRequest signUpRequest) {
+        if (signUpRequest.getPassword() == null) throw new IllegalArgumentException("Password cannot be null. Please enter a valid input.");
+        if (!signUpRequest.getPassword().equals(signUpRequest.getConfirmPassword())) throw new IllegalArgumentException("Passwords do not match. Please try again.");
+        if (signUpRequest.getPassword().isEmpty()) throw new IllegalArgumentException("Password field cannot be empty. Please enter a valid input.");
+        if (signUpRequest.getPassword().length() < 6) throw new IllegalArgumentException("Password must be at least 6 characters. Please enter a valid input.");
+    }
 
+    private static boolean isNullOrEmpty(String input) {
+        return input == null || input.isEmpty();
+    }
 }
@@ -4,11 +4,23 @@ package com.contactBox.controllers;
 import com.contactBox.data.repositories.ContactRepository;
 import com.contactBox.data.repositories.UserRepository;
 import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.dataTransferObjects.responses.ApiResponse;
+import com.contactBox.dataTransferObjects.responses.SignUpResponse;
+import com.contactBox.utilities.ContactFileFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +36,8 @@ public class UserControllerTest {
     @Autowired
     private ContactRepository contactRepository;
 
+    private String token;
+
     @BeforeEach
     public void setUp() {
         userRepository.deleteAll();
@@ -33,10 +47,12 @@ public class UserControllerTest {
         signUpRequest.setUsername("jane123");
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
-        userController.signUp(signUpRequest);
+        var signUpResponse = userController.signUp(signUpRequest).join();
+        token = ((SignUpResponse) ((ApiResponse) signUpResponse.getBody()).getResponse()).getToken();
 
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jill");
         createContactRequest.setLastName("smith");
         createContactRequest.setPhoneNumber("09123456789");
@@ -57,7 +73,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
     }
 
@@ -68,7 +84,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -79,7 +95,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -90,7 +106,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -101,7 +117,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -112,7 +128,7 @@ public class UserControllerTest {
         signUpRequest.setPassword(null);
         signUpRequest.setConfirmPassword(null);
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -123,7 +139,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("");
         signUpRequest.setConfirmPassword("");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -134,7 +150,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("word");
         signUpRequest.setConfirmPassword("word");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -145,7 +161,7 @@ public class UserControllerTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("word");
 
-        var response = userController.signUp(signUpRequest);
+        var response = userController.signUp(signUpRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -153,6 +169,7 @@ public class UserControllerTest {
     public void userSignsUp_UserLogsOutTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -179,7 +196,7 @@ public class UserControllerTest {
         loginRequest.setUsername("jane123");
         loginRequest.setPassword("password");
 
-        response = userController.login(loginRequest);
+        response = userController.login(loginRequest).join();
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -189,7 +206,7 @@ public class UserControllerTest {
         loginRequest.setUsername("jill123");
         loginRequest.setPassword("password");
 
-        var response = userController.login(loginRequest);
+        var response = userController.login(loginRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -197,6 +214,7 @@ public class UserControllerTest {
     public void userCreatesContactTest() {
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jessica");
         createContactRequest.setLastName("brown");
         createContactRequest.setPhoneNumber("08123456789");
@@ -235,12 +253,14 @@ public class UserControllerTest {
     public void userLogsOut_UserCreatesContactTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jessica");
         createContactRequest.setLastName("brown");
         createContactRequest.setPhoneNumber("08123456789");
@@ -260,6 +280,7 @@ public class UserControllerTest {
     public void userCreatesContact_PhoneNumberIsInvalidTest() {
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jessica");
         createContactRequest.setLastName("brown");
         createContactRequest.setPhoneNumber("08123abcdef");
@@ -275,12 +296,56 @@ public class UserControllerTest {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
+    @Test
+    public void userBulkCreatesContactsTest() {
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setFirstName("jessica");
+
+        BulkCreateContactRequest bulkCreateContactRequest = new BulkCreateContactRequest();
+        bulkCreateContactRequest.setUsername("jane123");
+        bulkCreateContactRequest.setToken(token);
+        bulkCreateContactRequest.setContacts(List.of(createContactRequest));
+
+        var response = userController.bulkCreateContacts(bulkCreateContactRequest);
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    }
+
+    @Test
+    public void nonExistentUserBulkCreatesContactsTest() {
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setFirstName("jessica");
+
+        BulkCreateContactRequest bulkCreateContactRequest = new BulkCreateContactRequest();
+        bulkCreateContactRequest.setUsername("jessica123");
+        bulkCreateContactRequest.setContacts(List.of(createContactRequest));
+
+        var response = userController.bulkCreateContacts(bulkCreateContactRequest);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void userImportsContactsTest() {
+        var inputStream = new ByteArrayInputStream("firstName,phoneNumber\njessica,08123456789\n".getBytes(StandardCharsets.UTF_8));
+
+        var response = userController.importContacts("jane123", token, ContactFileFormat.CSV, inputStream);
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    }
+
+    @Test
+    public void nonExistentUserImportsContactsTest() {
+        var inputStream = new ByteArrayInputStream("firstName,phoneNumber\njessica,08123456789\n".getBytes(StandardCharsets.UTF_8));
+
+        var response = userController.importContacts("jessica123", token, ContactFileFormat.CSV, inputStream);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     public void userUpdatesContactTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId(contactId);
         updateContactRequest.setEmail("jillsmith@yahoo.com");
         updateContactRequest.setPhoneNumber("07123456789");
@@ -292,7 +357,7 @@ public class UserControllerTest {
 
     @Test
     public void nonExistentUser_UpdatesContactTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jessica123");
@@ -309,6 +374,7 @@ public class UserControllerTest {
     public void userUpdates_NonExistentContactTest() {
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId("non existent contact id");
         updateContactRequest.setEmail("jillsmith@yahoo.com");
         updateContactRequest.setPhoneNumber("07123456789");
@@ -322,14 +388,16 @@ public class UserControllerTest {
     public void userLogsOut_UpdatesContactTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId(contactId);
         updateContactRequest.setEmail("jillsmith@yahoo.com");
         updateContactRequest.setPhoneNumber("07123456789");
@@ -341,10 +409,11 @@ public class UserControllerTest {
 
     @Test
     public void userUpdatesContact_PhoneNumberIsInvalidTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId(contactId);
         updateContactRequest.setEmail("jillsmith@yahoo.com");
         updateContactRequest.setPhoneNumber("07123abcef");
@@ -354,13 +423,43 @@ public class UserControllerTest {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
+    @Test
+    public void userBulkUpdatesContactsTest() {
+        UpdateContactRequest updateContactRequest = new UpdateContactRequest();
+        updateContactRequest.setId(contactRepository.findAll(Sort.by("_id")).getFirst().getId());
+        updateContactRequest.setEmail("jillsmith@yahoo.com");
+
+        BulkUpdateContactRequest bulkUpdateContactRequest = new BulkUpdateContactRequest();
+        bulkUpdateContactRequest.setUsername("jane123");
+        bulkUpdateContactRequest.setToken(token);
+        bulkUpdateContactRequest.setContacts(List.of(updateContactRequest));
+
+        var response = userController.bulkUpdateContacts(bulkUpdateContactRequest);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    public void nonExistentUserBulkUpdatesContactsTest() {
+        UpdateContactRequest updateContactRequest = new UpdateContactRequest();
+        updateContactRequest.setId(contactRepository.findAll(Sort.by("_id")).getFirst().getId());
+        updateContactRequest.setEmail("jillsmith@yahoo.com");
+
+        BulkUpdateContactRequest bulkUpdateContactRequest = new BulkUpdateContactRequest();
+        bulkUpdateContactRequest.setUsername("jessica123");
+        bulkUpdateContactRequest.setContacts(List.of(updateContactRequest));
+
+        var response = userController.bulkUpdateContacts(bulkUpdateContactRequest);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     public void userFindsContactByIdTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
         findContactByIdRequest.setContactId(contactId);
         findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
 
         var response = userController.findContactById(findContactByIdRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -371,6 +470,7 @@ public class UserControllerTest {
         FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
         findContactByIdRequest.setContactId("non existent contactId");
         findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
 
         var response = userController.findContactById(findContactByIdRequest);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -378,7 +478,7 @@ public class UserControllerTest {
 
     @Test
     public void nonExistentUser_FindsContactByIdTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
         findContactByIdRequest.setContactId(contactId);
@@ -392,15 +492,17 @@ public class UserControllerTest {
     public void userLogsOut_FindsContactByIdTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
         findContactByIdRequest.setContactId(contactId);
         findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
 
         response = userController.findContactById(findContactByIdRequest);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -408,14 +510,15 @@ public class UserControllerTest {
 
     @Test
     public void userDeletesContactTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId(contactId);
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setPassword("password");
 
-        var response = userController.deleteContact(deleteContactRequest);
+        var response = userController.deleteContact(deleteContactRequest).join();
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -424,22 +527,23 @@ public class UserControllerTest {
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId("non existent contactId");
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setPassword("password");
 
-        var response = userController.deleteContact(deleteContactRequest);
+        var response = userController.deleteContact(deleteContactRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
     public void nonExistentUserDeletesContactTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId(contactId);
         deleteContactRequest.setUsername("jill123");
         deleteContactRequest.setPassword("password");
 
-        var response = userController.deleteContact(deleteContactRequest);
+        var response = userController.deleteContact(deleteContactRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -447,31 +551,58 @@ public class UserControllerTest {
     public void userLogsOut_DeletesContactTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId(contactId);
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setPassword("password");
 
-        response = userController.deleteContact(deleteContactRequest);
+        response = userController.deleteContact(deleteContactRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
     public void userDeletesContact_PasswordIsInvalidTest() {
-        String contactId = contactRepository.findAll().getFirst().getId();
+        String contactId = contactRepository.findAll(Sort.by("_id")).getFirst().getId();
 
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId(contactId);
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setPassword("word");
 
-        var response = userController.deleteContact(deleteContactRequest);
+        var response = userController.deleteContact(deleteContactRequest).join();
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void userBulkDeletesContactsTest() {
+        BulkDeleteContactRequest bulkDeleteContactRequest = new BulkDeleteContactRequest();
+        bulkDeleteContactRequest.setUsername("jane123");
+        bulkDeleteContactRequest.setToken(token);
+        bulkDeleteContactRequest.setPassword("password");
+        bulkDeleteContactRequest.setContactIds(List.of(contactRepository.findAll(Sort.by("_id")).getFirst().getId()));
+
+        var response = userController.bulkDeleteContacts(bulkDeleteContactRequest).join();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    public void userBulkDeletesContacts_PasswordIsInvalidTest() {
+        BulkDeleteContactRequest bulkDeleteContactRequest = new BulkDeleteContactRequest();
+        bulkDeleteContactRequest.setUsername("jane123");
+        bulkDeleteContactRequest.setToken(token);
+        bulkDeleteContactRequest.setPassword("word");
+        bulkDeleteContactRequest.setContactIds(List.of(contactRepository.findAll(Sort.by("_id")).getFirst().getId()));
+
+        var response = userController.bulkDeleteContacts(bulkDeleteContactRequest).join();
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -479,11 +610,83 @@ public class UserControllerTest {
     public void userFindsAllContactsTest() {
         FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
         findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
 
         var response = userController.findAllContacts(findAllContactRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
+    @Test
+    public void userStreamsAllContactsTest() throws IOException {
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+
+        var response = userController.streamAllContacts(findAllContactRequest);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].contains("\"firstName\":\"jill\""));
+    }
+
+    @Test
+    public void userExportsContactsAsVCardTest() throws IOException {
+        ExportContactRequest exportContactRequest = new ExportContactRequest();
+        exportContactRequest.setUsername("jane123");
+        exportContactRequest.setToken(token);
+        exportContactRequest.setFormat(ContactFileFormat.VCARD);
+
+        var response = userController.exportContacts(exportContactRequest);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("text/vcard;charset=UTF-8"), response.getHeaders().getContentType());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(outputStream);
+        String vCard = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(vCard.startsWith("BEGIN:VCARD\r\nVERSION:4.0\r\nFN:jill smith\r\nN:smith;jill;;;\r\n"));
+        assertTrue(vCard.endsWith("END:VCARD\r\n"));
+    }
+
+    @Test
+    public void userExportsContactsAsCsvTest() throws IOException {
+        ExportContactRequest exportContactRequest = new ExportContactRequest();
+        exportContactRequest.setUsername("jane123");
+        exportContactRequest.setToken(token);
+        exportContactRequest.setFormat(ContactFileFormat.CSV);
+
+        var response = userController.exportContacts(exportContactRequest);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("jill,smith,09123456789,jillsmith@gmail.com,1,broadway,"));
+    }
+
+    @Test
+    public void userExportsContacts_WithoutFormatTest() {
+        ExportContactRequest exportContactRequest = new ExportContactRequest();
+        exportContactRequest.setUsername("jane123");
+        exportContactRequest.setToken(token);
+
+        var response = userController.exportContacts(exportContactRequest);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void nonExistentUserStreamsAllContactsTest() {
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jessica123");
+
+        var response = userController.streamAllContacts(findAllContactRequest);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     public void nonExistentUserFindsAllContactsTest() {
         FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
@@ -497,12 +700,14 @@ public class UserControllerTest {
     public void userLogsOut_FindsAllContactsTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
         FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
         findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
 
         response = userController.findAllContacts(findAllContactRequest);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -512,6 +717,7 @@ public class UserControllerTest {
     public void userFindsContactByNameTest() {
         FindContactByNameRequest findContactByNameRequest = new FindContactByNameRequest();
         findContactByNameRequest.setUsername("jane123");
+        findContactByNameRequest.setToken(token);
         findContactByNameRequest.setName("jill");
 
         var response = userController.findContactByName(findContactByNameRequest);
@@ -532,12 +738,14 @@ public class UserControllerTest {
     public void userLogsOut_FindsContactByNameTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
         FindContactByNameRequest findContactByNameRequest = new FindContactByNameRequest();
         findContactByNameRequest.setUsername("jane123");
+        findContactByNameRequest.setToken(token);
         findContactByNameRequest.setName("jill");
 
         response = userController.findContactByName(findContactByNameRequest);
@@ -548,6 +756,7 @@ public class UserControllerTest {
     public void userFindsContactByPhoneNumberTest() {
         FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
         findContactByPhoneNumberRequest.setUsername("jane123");
+        findContactByPhoneNumberRequest.setToken(token);
         findContactByPhoneNumberRequest.setPhoneNumber("09123456789");
 
         var response = userController.findContactByPhoneNumber(findContactByPhoneNumberRequest);
@@ -568,12 +777,14 @@ public class UserControllerTest {
     public void userLogs_FindsContactByPhoneNumberTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
 
         var response = userController.logout(logoutRequest);
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
         FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
         findContactByPhoneNumberRequest.setUsername("jane123");
+        findContactByPhoneNumberRequest.setToken(token);
         findContactByPhoneNumberRequest.setPhoneNumber("09123456789");
 
         response = userController.findContactByPhoneNumber(findContactByPhoneNumberRequest);
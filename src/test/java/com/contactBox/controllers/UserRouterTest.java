@@ -0,0 +1,151 @@
+package com.contactBox.controllers;
+
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.utilities.ContactFileFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+public class UserRouterTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        contactRepository.deleteAll();
+
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("jane123");
+        signUpRequest.setPassword("password");
+        signUpRequest.setConfirmPassword("password");
+        webTestClient.post().uri("/SignUp").bodyValue(signUpRequest).exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.response.token").value(value -> token = (String) value);
+
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
+        createContactRequest.setFirstName("jill");
+        createContactRequest.setLastName("smith");
+        createContactRequest.setPhoneNumber("09123456789");
+        webTestClient.post().uri("/CreateContact").bodyValue(createContactRequest).exchange()
+                .expectStatus().isCreated();
+    }
+
+    @Test
+    public void userSignsUp_PasswordIsLessThanSixCharactersTest() {
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("jessica123");
+        signUpRequest.setPassword("pass");
+        signUpRequest.setConfirmPassword("pass");
+
+        webTestClient.post().uri("/SignUp").bodyValue(signUpRequest).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.successful").isEqualTo(false);
+    }
+
+    @Test
+    public void userBulkCreatesContactsTest() {
+        CreateContactRequest jessica = new CreateContactRequest();
+        jessica.setFirstName("jessica");
+        BulkCreateContactRequest bulkCreateContactRequest = new BulkCreateContactRequest();
+        bulkCreateContactRequest.setUsername("jane123");
+        bulkCreateContactRequest.setToken(token);
+        bulkCreateContactRequest.setContacts(List.of(jessica));
+
+        webTestClient.post().uri("/BulkCreateContacts").bodyValue(bulkCreateContactRequest).exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.response.createdCount").isEqualTo(1);
+        assertEquals(2, contactRepository.count());
+    }
+
+    @Test
+    public void userFindsAllContactsTest() {
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+
+        webTestClient.method(HttpMethod.GET).uri("/FindAllContacts").bodyValue(findAllContactRequest).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.response.contacts[0].firstName").isEqualTo("jill");
+    }
+
+    @Test
+    public void userStreamsAllContactsTest() {
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+
+        String body = webTestClient.method(HttpMethod.GET).uri("/StreamAllContacts").bodyValue(findAllContactRequest).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        assertNotNull(body);
+        assertTrue(body.contains("\"firstName\":\"jill\""));
+    }
+
+    @Test
+    public void userLogsOut_StreamsAllContactsTest() {
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken("not-a-token");
+
+        webTestClient.method(HttpMethod.GET).uri("/StreamAllContacts").bodyValue(findAllContactRequest).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.successful").isEqualTo(false);
+    }
+
+    @Test
+    public void userExportsContactsAsCsvTest() {
+        ExportContactRequest exportContactRequest = new ExportContactRequest();
+        exportContactRequest.setUsername("jane123");
+        exportContactRequest.setToken(token);
+        exportContactRequest.setFormat(ContactFileFormat.CSV);
+
+        String body = webTestClient.method(HttpMethod.GET).uri("/ExportContacts").bodyValue(exportContactRequest).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.parseMediaType("text/csv"))
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        assertNotNull(body);
+        assertTrue(body.contains("jill,smith,09123456789"));
+    }
+
+    @Test
+    public void userImportsContactsTest() {
+        String csv = "firstName,phoneNumber\r\njessica,08123456789\r\njennifer,08123456780\r\n";
+
+        webTestClient.post().uri(uriBuilder -> uriBuilder.path("/ImportContacts").queryParam("username", "jane123").queryParam("format", "CSV").build())
+                .header("X-Session-Token", token)
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.response.importedCount").isEqualTo(2);
+        assertEquals(3, contactRepository.count());
+    }
+}
@@ -0,0 +1,136 @@
+package com.contactBox.data.cache;
+
+import com.contactBox.data.models.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, User> loader = username -> {
+        loads.incrementAndGet();
+        if (username.equalsIgnoreCase("nonExistentUser")) return null;
+        User user = new User();
+        user.setUsername(username.toLowerCase());
+        return user;
+    };
+
+    @Test
+    public void userIsLoadedOnce_AndFoundIgnoringCaseTest() {
+        UserCache userCache = new UserCache(10, Duration.ofMinutes(5), clock::get);
+
+        User jane = userCache.findByUsername("jane123", loader);
+
+        assertSame(jane, userCache.findByUsername("JANE123", loader));
+        assertEquals(1, loads.get());
+        assertEquals(1, userCache.stats().hitCount());
+        assertEquals(1, userCache.stats().missCount());
+    }
+
+    @Test
+    public void nonExistentUserIsNotCachedTest() {
+        UserCache userCache = new UserCache(10, Duration.ofMinutes(5), clock::get);
+
+        assertNull(userCache.findByUsername("nonExistentUser", loader));
+        assertNull(userCache.findByUsername("nonExistentUser", loader));
+        assertEquals(2, loads.get());
+        assertEquals(0, userCache.stats().size());
+    }
+
+    @Test
+    public void userExpiresAfterTimeToLiveTest() {
+        UserCache userCache = new UserCache(10, Duration.ofMinutes(5), clock::get);
+        User jane = userCache.findByUsername("jane123", loader);
+
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        assertNotSame(jane, userCache.findByUsername("jane123", loader));
+        assertEquals(1, userCache.stats().expirationCount());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void leastRecentlyUsedUserIsEvictedTest() {
+        UserCache userCache = new UserCache(2, Duration.ofMinutes(5), clock::get);
+        userCache.findByUsername("jane123", loader);
+        userCache.findByUsername("jill123", loader);
+        userCache.findByUsername("jane123", loader);
+
+        userCache.findByUsername("jessica123", loader);
+        userCache.findByUsername("jane123", loader);
+        userCache.findByUsername("jill123", loader);
+
+        assertEquals(2, userCache.stats().size());
+        assertEquals(2, userCache.stats().evictionCount());
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void userIsEvicted_UserIsReloadedTest() {
+        UserCache userCache = new UserCache(10, Duration.ofMinutes(5), clock::get);
+        User jane = userCache.findByUsername("jane123", loader);
+
+        userCache.evict("Jane123");
+
+        assertNotSame(jane, userCache.findByUsername("jane123", loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void matchingUsersAreEvicted_OtherUsersStayCachedTest() {
+        UserCache userCache = new UserCache(10, Duration.ofMinutes(5), clock::get);
+        User jane = userCache.findByUsername("jane123", loader);
+        User jill = userCache.findByUsername("jill123", loader);
+
+        userCache.evictIf(user -> user.getUsername().equals("jane123"));
+
+        assertNull(userCache.getIfPresent("jane123"));
+        assertSame(jill, userCache.getIfPresent("jill123"));
+        assertNotSame(jane, userCache.findByUsername("jane123", loader));
+    }
+
+    @Test
+    public void userIsEvictedWhileLoading_StaleUserIsNotCachedTest() {
+        UserCache userCache = new UserCache(10, Duration.ofMinutes(5), clock::get);
+        User staleJane = userCache.findByUsername("jane123", username -> {
+            User user = loader.apply(username);
+            userCache.evict("JANE123");
+            return user;
+        });
+
+        assertNull(userCache.getIfPresent("jane123"));
+        assertNotSame(staleJane, userCache.findByUsername("jane123", loader));
+        assertEquals(2, loads.get());
+        assertSame(userCache.findByUsername("jane123", loader), userCache.findByUsername("jane123", loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void cacheIsClearedWhileLoading_StaleUserIsNotCachedTest() {
+        UserCache userCache = new UserCache(10, Duration.ofMinutes(5), clock::get);
+        long generation = userCache.generation("jane123");
+        User staleJane = loader.apply("jane123");
+
+        userCache.clear();
+        userCache.putIfAbsent(staleJane, generation);
+
+        assertNull(userCache.getIfPresent("jane123"));
+    }
+
+    @Test
+    public void cacheWithZeroSize_IsDisabledTest() {
+        UserCache userCache = new UserCache(0, Duration.ofMinutes(5), clock::get);
+
+        userCache.findByUsername("jane123", loader);
+        userCache.findByUsername("jane123", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,59 @@
+package com.contactBox.data.models;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContactListTest {
+
+    private ContactList contacts;
+    private Contact jill;
+    private Contact jessica;
+
+    @BeforeEach
+    public void setUp() {
+        jill = new Contact();
+        jill.setId("1");
+        jill.setFirstName("jill");
+
+        jessica = new Contact();
+        jessica.setId("2");
+        jessica.setFirstName("jessica");
+
+        contacts = new ContactList(List.of(jill));
+    }
+
+    @Test
+    public void contactIsAdded_ContactIsFoundByIdTest() {
+        contacts.add(jessica);
+
+        assertSame(jessica, contacts.findById("2"));
+        assertEquals(2, contacts.size());
+    }
+
+    @Test
+    public void contactIsRemoved_ContactIsNoLongerFoundTest() {
+        contacts.add(jessica);
+
+        assertTrue(contacts.remove(jill));
+        assertNull(contacts.findById("1"));
+        assertEquals(List.of(jessica), contacts);
+    }
+
+    @Test
+    public void contactIsReplaced_IndexFollowsReplacementTest() {
+        contacts.set(0, jessica);
+
+        assertNull(contacts.findById("1"));
+        assertSame(jessica, contacts.findById("2"));
+    }
+
+    @Test
+    public void nonExistentContactIsRemoved_ListIsUnchangedTest() {
+        assertFalse(contacts.remove(jessica));
+        assertEquals(1, contacts.size());
+    }
+}
@@ -0,0 +1,129 @@
+package com.contactBox.data.references;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.data.versions.DocumentVersionMigration;
+import com.contactBox.dataTransferObjects.requests.FindAllContactRequest;
+import com.contactBox.dataTransferObjects.requests.LoginRequest;
+import com.contactBox.dataTransferObjects.responses.FindAllContactsResponse;
+import com.contactBox.services.UserService;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class ContactReferenceMigrationTest {
+
+    @Autowired
+    private ContactReferenceMigration contactReferenceMigration;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private DocumentVersionMigration documentVersionMigration;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    private Contact jill;
+    private Contact jessica;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        contactRepository.deleteAll();
+
+        jill = new Contact();
+        jill.setFirstName("jill");
+        contactRepository.save(jill);
+
+        jessica = new Contact();
+        jessica.setFirstName("jessica");
+        contactRepository.save(jessica);
+
+        Document legacyUser = new Document("username", "jane123")
+                .append("password", "password")
+                .append("contacts", List.of(new DBRef("Contacts", new ObjectId(jill.getId())), new DBRef("Contacts", new ObjectId(jessica.getId()))));
+        mongoTemplate.insert(legacyUser, "Users");
+    }
+
+    @Test
+    public void userWithDbRefContactsIsLoaded_ContactsAreResolvedInOrderTest() {
+        User janeContactBox = userRepository.findByUsername("jane123");
+
+        assertEquals(2, janeContactBox.getContacts().size());
+        assertEquals("jill", janeContactBox.getContacts().getFirst().getFirstName());
+        assertEquals("jessica", janeContactBox.getContacts().get(1).getFirstName());
+    }
+
+    @Test
+    public void dbRefContactsAreMigrated_ContactsAreStoredAsIdsTest() {
+        assertEquals(1, contactReferenceMigration.migrate());
+
+        Document janeDocument = mongoTemplate.getCollection("Users").find(new Document("username", "jane123")).first();
+        List<?> references = janeDocument.get("contacts", List.class);
+        assertEquals(List.of(new ObjectId(jill.getId()), new ObjectId(jessica.getId())), references);
+        assertEquals(2, userRepository.findByUsername("jane123").getContacts().size());
+        assertEquals(0, contactReferenceMigration.migrate());
+    }
+
+    @Test
+    public void userIsSaved_ContactsAreStoredAsIdsTest() {
+        documentVersionMigration.backfillVersions(User.class);
+        User janeContactBox = userRepository.findByUsername("jane123");
+        userRepository.save(janeContactBox);
+
+        Document janeDocument = mongoTemplate.getCollection("Users").find(new Document("username", "jane123")).first();
+        assertEquals(List.of(new ObjectId(jill.getId()), new ObjectId(jessica.getId())), janeDocument.get("contacts", List.class));
+    }
+
+    @Test
+    public void contactsWithoutOwner_OwnerIsBackfilledTest() {
+        String janeId = userRepository.findByUsername("jane123").getId();
+
+        assertEquals(2, contactReferenceMigration.backfillContactOwners());
+
+        assertEquals(janeId, contactRepository.findById(jill.getId()).orElseThrow().getOwnerId());
+        assertEquals(janeId, contactRepository.findById(jessica.getId()).orElseThrow().getOwnerId());
+        assertEquals(0, contactReferenceMigration.backfillContactOwners());
+    }
+
+    @Test
+    public void applicationStartsOnLegacyContacts_ContactsArePagedThroughTest() {
+        documentVersionMigration.run(null);
+        contactReferenceMigration.run(null);
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("jane123");
+        loginRequest.setPassword("password");
+        String token = userService.login(loginRequest).join().getToken();
+
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+        findAllContactRequest.setLimit(1);
+        FindAllContactsResponse firstPage = userService.findAllContacts(findAllContactRequest);
+        findAllContactRequest.setCursor(firstPage.getNextCursor());
+        FindAllContactsResponse secondPage = userService.findAllContacts(findAllContactRequest);
+
+        assertEquals(List.of("jill"), firstPage.getContacts().stream().map(Contact::getFirstName).toList());
+        assertEquals(List.of("jessica"), secondPage.getContacts().stream().map(Contact::getFirstName).toList());
+    }
+}
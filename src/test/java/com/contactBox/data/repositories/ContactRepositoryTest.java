@@ -1,10 +1,15 @@
 package com.contactBox.data.repositories;
 
+import com.contactBox.data.models.BulkUpdateResult;
 import com.contactBox.data.models.Contact;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,4 +31,22 @@ public class ContactRepositoryTest {
         assertEquals(1, contactRepository.count());
     }
 
+    @Test
+    public void contactsAreBulkUpdated_OnlyOwnedContactsAreMatchedTest() {
+        Contact jill = new Contact();
+        jill.setOwnerId("jane");
+        jill.setFirstName("jill");
+        Contact jack = new Contact();
+        jack.setOwnerId("jessica");
+        jack.setFirstName("jack");
+        contactRepository.saveAll(List.of(jill, jack));
+
+        BulkUpdateResult bulkUpdateResult = contactRepository.updateContacts(List.of(jill.getId(), jack.getId(), "nonExistentId"), "jane",
+                List.of(new Update().set("firstName", "jillian"), new Update().set("firstName", "jackson"), new Update().set("firstName", "john")));
+
+        assertEquals(Set.of(jill.getId()), bulkUpdateResult.matchedContactIds());
+        assertTrue(bulkUpdateResult.errors().isEmpty());
+        assertEquals("jillian", contactRepository.findById(jill.getId()).orElseThrow().getFirstName());
+        assertEquals("jack", contactRepository.findById(jack.getId()).orElseThrow().getFirstName());
+    }
 }
\ No newline at end of file
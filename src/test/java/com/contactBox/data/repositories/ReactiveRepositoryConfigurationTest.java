@@ -0,0 +1,28 @@
+package com.contactBox.data.repositories;
+
+import com.contactBox.data.repositories.reactive.ReactiveContactRepository;
+import com.contactBox.data.repositories.reactive.ReactiveUserRepository;
+import com.mongodb.reactivestreams.client.MongoClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class ReactiveRepositoryConfigurationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void servletApplicationStarts_ReactiveMongoBeansAreNotCreatedTest() {
+        assertTrue(applicationContext.getBeansOfType(MongoClient.class).isEmpty());
+        assertTrue(applicationContext.getBeansOfType(ReactiveMongoTemplate.class).isEmpty());
+        assertTrue(applicationContext.getBeansOfType(ReactiveUserRepository.class).isEmpty());
+        assertTrue(applicationContext.getBeansOfType(ReactiveContactRepository.class).isEmpty());
+        assertEquals(1, applicationContext.getBeansOfType(UserRepository.class).size());
+    }
+}
@@ -1,22 +1,35 @@
 package com.contactBox.data.repositories;
 
+import com.contactBox.configurations.MongoCommandCounter;
+import com.contactBox.data.models.Contact;
 import com.contactBox.data.models.User;
+import com.contactBox.data.models.UserCredentials;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "contactbox.mongo.count-commands=true")
 public class UserRepositoryTest {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private MongoCommandCounter mongoCommandCounter;
+
     @BeforeEach
     public void setUp() {
         userRepository.deleteAll();
+        contactRepository.deleteAll();
     }
 
     @Test
@@ -26,4 +39,71 @@ public class UserRepositoryTest {
         assertEquals(1, userRepository.count());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void userCredentialsAreFound_OnlyCredentialsAreReadTest() {
+        User user = new User();
+        user.setUsername("jane123");
+        user.setPassword("password");
+        user.setFirstName("jane");
+        userRepository.save(user);
+
+        UserCredentials credentials = userRepository.findCredentialsByUsername("jane123");
+
+        assertEquals(new UserCredentials(user.getId(), "jane123", "password", user.getVersion()), credentials);
+        assertNull(userRepository.findCredentialsByUsername("jessica123"));
+    }
+
+    @Test
+    public void staleUserIsSaved_ThrowsExceptionTest() {
+        User user = new User();
+        user.setUsername("jane123");
+        userRepository.save(user);
+        User staleUser = userRepository.findById(user.getId()).orElseThrow();
+        user.setFirstName("jane");
+        userRepository.save(user);
+
+        staleUser.setFirstName("janet");
+
+        assertThrows(OptimisticLockingFailureException.class, ()->userRepository.save(staleUser));
+        assertEquals("jane", userRepository.findById(user.getId()).orElseThrow().getFirstName());
+    }
+
+    @Test
+    public void contactsArePulledWithStaleVersion_NothingIsPulledTest() {
+        User user = new User();
+        user.setUsername("jane123");
+        userRepository.save(user);
+        Long staleVersion = user.getVersion();
+        Contact contact = new Contact();
+        contact.setId("1");
+        userRepository.pushContact(user.getId(), contact);
+
+        assertFalse(userRepository.pullContacts(user.getId(), staleVersion, List.of("1")));
+        assertTrue(userRepository.pullContacts(user.getId(), staleVersion + 1, List.of("1")));
+        assertEquals(staleVersion + 2, userRepository.findById(user.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    public void userIsFound_ContactsAreLoadedOnceOnFirstAccessTest() {
+        User user = new User();
+        user.setUsername("jane123");
+        userRepository.save(user);
+        for (String name : List.of("jessica", "janet", "john")) {
+            Contact contact = new Contact();
+            contact.setFirstName(name);
+            contactRepository.save(contact);
+            userRepository.pushContact(user.getId(), contact);
+        }
+        mongoCommandCounter.reset();
+
+        User foundUser = userRepository.findByUsername("jane123");
+        userRepository.save(foundUser);
+
+        assertFalse(foundUser.getContacts().isLoaded());
+        assertEquals(0, mongoCommandCounter.count("find", "Contacts"));
+        assertEquals(3, foundUser.getContacts().size());
+        assertEquals("janet", foundUser.getContacts().get(1).getFirstName());
+        assertTrue(foundUser.getContacts().isLoaded());
+        assertEquals(1, mongoCommandCounter.count("find", "Contacts"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.contactBox.data.repositories;
+
+import com.contactBox.data.models.User;
+import com.contactBox.data.models.UserCredentials;
+import com.contactBox.dataTransferObjects.requests.SignUpRequest;
+import com.contactBox.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public class UsernameCollationTest {
+
+    @Container
+    @ServiceConnection
+    private static final MongoDBContainer MONGO_DB = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        userService.signUp(signUpRequest("Jane123")).join();
+    }
+
+    @Test
+    public void userIsFoundByUsername_IgnoringCaseTest() {
+        User janeContactBox = userRepository.findByUsername("jANE123");
+
+        assertNotNull(janeContactBox);
+        assertEquals("Jane123", janeContactBox.getUsername());
+    }
+
+    @Test
+    public void userCredentialsAreFoundByUsername_IgnoringCaseTest() {
+        UserCredentials credentials = userRepository.findCredentialsByUsername("JANE123");
+
+        assertNotNull(credentials);
+        assertEquals("Jane123", credentials.username());
+    }
+
+    @Test
+    public void userSignsUp_UsernameExistsWithDifferentCase_ThrowsExceptionTest() {
+        CompletionException exception = assertThrows(CompletionException.class, ()->userService.signUp(signUpRequest("jane123")).join());
+
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(1, userRepository.count());
+    }
+
+    private static SignUpRequest signUpRequest(String username) {
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername(username);
+        signUpRequest.setPassword("password123");
+        signUpRequest.setConfirmPassword("password123");
+        return signUpRequest;
+    }
+}
@@ -0,0 +1,65 @@
+package com.contactBox.data.search;
+
+import com.contactBox.data.models.Contact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContactNameIndexTest {
+
+    private ContactNameIndex contactNameIndex;
+    private Contact adaLovelace;
+    private Contact adamSmith;
+    private Contact zoeBronte;
+
+    @BeforeEach
+    public void setUp() {
+        adaLovelace = contact("ada", "lovelace");
+        adamSmith = contact("adam", "smith");
+        zoeBronte = contact("Zoë", "Brontë");
+        contactNameIndex = new ContactNameIndex(List.of(adaLovelace, adamSmith, zoeBronte));
+    }
+
+    @Test
+    public void contactIsSearchedByPrefix_AllMatchingContactsAreFoundTest() {
+        assertEquals(List.of(adaLovelace, adamSmith), contactNameIndex.search("ad", 10));
+    }
+
+    @Test
+    public void contactIsSearchedByFullName_OnlyThatContactIsFoundTest() {
+        assertEquals(List.of(adaLovelace), contactNameIndex.search("Ada  Lovelace", 10));
+    }
+
+    @Test
+    public void contactIsSearchedByLastName_ContactIsFoundTest() {
+        assertEquals(List.of(adamSmith), contactNameIndex.search("smi", 10));
+    }
+
+    @Test
+    public void contactIsSearchedWithoutDiacritics_ContactIsFoundTest() {
+        assertEquals(List.of(zoeBronte), contactNameIndex.search("zoe bronte", 10));
+        assertEquals(List.of(zoeBronte), contactNameIndex.search("BRONTË", 10));
+    }
+
+    @Test
+    public void contactsAreSearchedWithLimit_ResultsAreLimitedTest() {
+        assertEquals(List.of(adaLovelace), contactNameIndex.search("a", 1));
+    }
+
+    @Test
+    public void contactIsRemoved_ContactIsNoLongerFoundTest() {
+        contactNameIndex.remove(adaLovelace);
+
+        assertEquals(List.of(adamSmith), contactNameIndex.search("ada", 10));
+    }
+
+    private static Contact contact(String firstName, String lastName) {
+        Contact contact = new Contact();
+        contact.setFirstName(firstName);
+        contact.setLastName(lastName);
+        return contact;
+    }
+}
@@ -0,0 +1,54 @@
+package com.contactBox.data.sessions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemorySessionStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemorySessionStore sessionStore = new InMemorySessionStore(clock::get);
+
+    @Test
+    public void savedSessionIsFoundByTokenTest() {
+        Session session = new Session("token", "userId", "jane123", 1000);
+        sessionStore.save(session);
+
+        assertEquals(session, sessionStore.find("token"));
+        assertNull(sessionStore.find("otherToken"));
+        assertNull(sessionStore.find(null));
+    }
+
+    @Test
+    public void expiredSessionIsNotFoundTest() {
+        sessionStore.save(new Session("token", "userId", "jane123", 1000));
+
+        clock.set(1000);
+
+        assertNull(sessionStore.find("token"));
+        assertEquals(0, sessionStore.size());
+    }
+
+    @Test
+    public void removedSessionIsNotFoundTest() {
+        sessionStore.save(new Session("token", "userId", "jane123", 1000));
+
+        assertNotNull(sessionStore.remove("token"));
+        assertNull(sessionStore.find("token"));
+        assertNull(sessionStore.remove("token"));
+    }
+
+    @Test
+    public void expiredSessionsArePurgedTest() {
+        for (int count = 0; count < 1023; count++) {
+            sessionStore.save(new Session("token" + count, "userId", "jane123", 1000));
+        }
+        clock.set(1000);
+
+        sessionStore.save(new Session("activeToken", "userId", "jane123", 2000));
+
+        assertEquals(1, sessionStore.size());
+    }
+}
@@ -0,0 +1,35 @@
+package com.contactBox.data.sessions;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class SessionStoreConfigurationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void customSessionStoreReplacesInMemorySessionStoreTest() {
+        assertEquals(1, applicationContext.getBeansOfType(SessionStore.class).size());
+        assertInstanceOf(CustomSessionStore.class, applicationContext.getBean(SessionStore.class));
+    }
+
+    @TestConfiguration
+    static class CustomSessionStoreConfiguration {
+
+        @Bean
+        public SessionStore customSessionStore() {
+            return new CustomSessionStore();
+        }
+    }
+
+    static class CustomSessionStore extends InMemorySessionStore {
+    }
+}
@@ -0,0 +1,61 @@
+package com.contactBox.data.versions;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class DocumentVersionMigrationTest {
+
+    @Autowired
+    private DocumentVersionMigration documentVersionMigration;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        contactRepository.deleteAll();
+        mongoTemplate.insert(new Document("username", "jane123").append("password", "password"), "Users");
+        mongoTemplate.insert(new Document("firstName", "jill"), "Contacts");
+    }
+
+    @Test
+    public void unversionedDocuments_VersionIsBackfilledTest() {
+        assertEquals(1, documentVersionMigration.backfillVersions(User.class));
+        assertEquals(1, documentVersionMigration.backfillVersions(Contact.class));
+
+        assertEquals(0, userRepository.findByUsername("jane123").getVersion());
+        assertEquals(0, contactRepository.findAll(Sort.by("_id")).getFirst().getVersion());
+        assertEquals(0, documentVersionMigration.backfillVersions(User.class));
+    }
+
+    @Test
+    public void backfilledUserIsSaved_VersionIsIncrementedTest() {
+        documentVersionMigration.backfillVersions(User.class);
+        User janeContactBox = userRepository.findByUsername("jane123");
+        janeContactBox.setFirstName("jane");
+
+        userRepository.save(janeContactBox);
+
+        assertEquals(1, userRepository.count());
+        assertEquals(1, userRepository.findByUsername("jane123").getVersion());
+    }
+}
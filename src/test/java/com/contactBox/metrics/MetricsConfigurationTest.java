@@ -0,0 +1,84 @@
+package com.contactBox.metrics;
+
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class MetricsConfigurationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ContactsPerUserSampler contactsPerUserSampler;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        contactRepository.deleteAll();
+    }
+
+    @Test
+    public void userSignsUp_RequestAndServiceCallsAreTimedTest() throws Exception {
+        signUp("jane123").andExpect(status().isCreated());
+        signUp("jane123").andExpect(status().isBadRequest());
+
+        String metrics = mockMvc.perform(get("/metrics")).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertTrue(metrics.contains("contactbox_http_requests_seconds_count{method=\"POST\",route=\"/SignUp\",status=\"201\",} 1.0"));
+        assertTrue(metrics.contains("contactbox_http_requests_seconds{method=\"POST\",route=\"/SignUp\",status=\"201\",quantile=\"0.99\",}"));
+        assertTrue(metrics.contains("contactbox_http_errors_total{method=\"POST\",route=\"/SignUp\",status=\"400\",} 1.0"));
+        assertTrue(metrics.contains("contactbox_service_calls_seconds_count{component=\"UserService\",exception=\"none\",method=\"signUp\",}"));
+        assertTrue(metrics.contains("component=\"UserRepository\""));
+        assertTrue(metrics.contains("contactbox_user_cache_size"));
+    }
+
+    @Test
+    public void contactsPerUserAreSampledFromStoredUsersTest() throws Exception {
+        signUp("jane123").andExpect(status().isCreated());
+        signUp("jill123").andExpect(status().isCreated());
+
+        String metricsBeforeSampling = mockMvc.perform(get("/metrics")).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertEquals(2, contactsPerUserSampler.sample());
+        String metrics = mockMvc.perform(get("/metrics")).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertEquals(countOf(metricsBeforeSampling) + 2, countOf(metrics));
+    }
+
+    private static double countOf(String metrics) {
+        for (String line : metrics.split("\n")) {
+            if (line.startsWith("contactbox_user_contacts_count ")) return Double.parseDouble(line.substring(line.indexOf(' ') + 1));
+        }
+        return 0;
+    }
+
+    private ResultActions signUp(String username) throws Exception {
+        MvcResult signUp = mockMvc.perform(post("/SignUp").contentType(MediaType.APPLICATION_JSON)
+                .content(String.format("{\"username\":\"%s\",\"password\":\"password\",\"confirmPassword\":\"password\"}", username)))
+                .andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(signUp));
+    }
+}
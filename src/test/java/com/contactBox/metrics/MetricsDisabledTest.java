@@ -0,0 +1,36 @@
+package com.contactBox.metrics;
+
+import com.contactBox.services.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "contactbox.metrics.enabled=false")
+@AutoConfigureMockMvc
+public class MetricsDisabledTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void metricsAreDisabled_NothingIsInstrumentedTest() throws Exception {
+        assertEquals(0, applicationContext.getBeanNamesForType(MeterRegistry.class).length);
+        assertFalse(AopUtils.isAopProxy(userService));
+        mockMvc.perform(get("/metrics")).andExpect(status().isNotFound());
+    }
+}
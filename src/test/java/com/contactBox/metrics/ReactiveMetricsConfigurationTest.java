@@ -0,0 +1,54 @@
+package com.contactBox.metrics;
+
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.dataTransferObjects.requests.SignUpRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+public class ReactiveMetricsConfigurationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        contactRepository.deleteAll();
+    }
+
+    @Test
+    public void userSignsUp_ReactiveServiceAndRepositoryCallsAreTimedTest() {
+        webTestClient.post().uri("/SignUp").bodyValue(signUpRequest("jane123")).exchange().expectStatus().isCreated();
+        webTestClient.post().uri("/SignUp").bodyValue(signUpRequest("jane123")).exchange().expectStatus().isBadRequest();
+
+        String metrics = webTestClient.get().uri("/metrics").exchange().expectStatus().isOk().expectBody(String.class).returnResult().getResponseBody();
+
+        assertNotNull(metrics);
+        assertTrue(metrics.contains("contactbox_service_calls_seconds_count{component=\"ReactiveUserService\",exception=\"none\",method=\"signUp\",}"));
+        assertTrue(metrics.contains("contactbox_service_calls_seconds_count{component=\"ReactiveUserService\",exception=\"IllegalArgumentException\",method=\"signUp\",}"));
+        assertTrue(metrics.contains("component=\"ReactiveUserRepository\""));
+    }
+
+    private static SignUpRequest signUpRequest(String username) {
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername(username);
+        signUpRequest.setPassword("password");
+        signUpRequest.setConfirmPassword("password");
+        return signUpRequest;
+    }
+}
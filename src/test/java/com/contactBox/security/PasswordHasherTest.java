@@ -0,0 +1,76 @@
+package com.contactBox.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    public void setUp() {
+        passwordHasher = new PasswordHasher();
+        ReflectionTestUtils.setField(passwordHasher, "targetLatency", Duration.ofMillis(5));
+        ReflectionTestUtils.setField(passwordHasher, "poolSize", 2);
+        ReflectionTestUtils.setField(passwordHasher, "queueCapacity", 4);
+        passwordHasher.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordHasher.destroy();
+    }
+
+    @Test
+    public void hashedPasswordIsVerifiedTest() {
+        String hash = passwordHasher.hashAsync("password").join();
+
+        assertTrue(hash.startsWith(PasswordHasher.HASH_PREFIX));
+        assertNotEquals(hash, passwordHasher.hashAsync("password").join());
+        assertTrue(passwordHasher.verifyAsync("password", hash).join());
+        assertFalse(passwordHasher.verifyAsync("word", hash).join());
+        assertFalse(passwordHasher.needsRehash(hash));
+    }
+
+    @Test
+    public void plaintextPasswordIsVerified_AndNeedsRehashTest() {
+        assertTrue(passwordHasher.verifyAsync("password", "password").join());
+        assertFalse(passwordHasher.verifyAsync("word", "password").join());
+        assertTrue(passwordHasher.needsRehash("password"));
+    }
+
+    @Test
+    public void hashWithFewerIterations_NeedsRehashTest() {
+        String hash = passwordHasher.hashAsync("password").join();
+        ReflectionTestUtils.setField(passwordHasher, "iterations", passwordHasher.stats().iterations() * 2);
+
+        assertTrue(passwordHasher.verifyAsync("password", hash).join());
+        assertTrue(passwordHasher.needsRehash(hash));
+    }
+
+    @Test
+    public void malformedHashIsNotVerified_AndDoesNotNeedRehashTest() {
+        for (String malformedHash : new String[]{"pbkdf2-sha256$", "pbkdf2-sha256$abc$c2FsdA$aGFzaA", "pbkdf2-sha256$0$c2FsdA$aGFzaA", "pbkdf2-sha256$1000$!!$aGFzaA", "pbkdf2-sha256$20000000$c2FsdA"}) {
+            assertFalse(passwordHasher.verifyAsync("password", malformedHash).join());
+            assertFalse(passwordHasher.needsRehash(malformedHash));
+        }
+    }
+
+    @Test
+    public void completedHashesAreCountedTest() {
+        passwordHasher.hashAsync("password").join();
+        passwordHasher.hashAsync("password").join();
+
+        PasswordHasher.PasswordHasherStats stats = passwordHasher.stats();
+        assertEquals(2, stats.completedCount());
+        assertEquals(0, stats.rejectedCount());
+        assertTrue(stats.averageHashMillis() > 0);
+        assertTrue(stats.iterations() >= 10_000);
+    }
+}
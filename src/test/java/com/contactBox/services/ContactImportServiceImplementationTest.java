@@ -0,0 +1,143 @@
+package com.contactBox.services;
+
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.dataTransferObjects.requests.ContactImportProgressRequest;
+import com.contactBox.dataTransferObjects.requests.LogoutRequest;
+import com.contactBox.dataTransferObjects.requests.SignUpRequest;
+import com.contactBox.dataTransferObjects.responses.ContactImportResponse;
+import com.contactBox.exceptions.ProfileLockException;
+import com.contactBox.utilities.ContactFileFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.contactBox.utilities.ContactReaders.MAX_RECORD_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "contactbox.import.batch-size=3")
+public class ContactImportServiceImplementationTest {
+
+    @Autowired
+    private ContactImportService contactImportService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        contactRepository.deleteAll();
+
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("jane123");
+        signUpRequest.setPassword("password");
+        signUpRequest.setConfirmPassword("password");
+        token = userService.signUp(signUpRequest).join().getToken();
+    }
+
+    @Test
+    public void userImportsContactsFromCsv_InvalidRecordsAreReportedTest() {
+        StringBuilder csv = new StringBuilder("firstName,lastName,phoneNumber\n");
+        for (int record = 1; record <= 10; record++) {
+            csv.append("contact").append(record).append(",smith,").append(record == 4 ? "0812abc" : "0812345678" + record).append('\n');
+        }
+        csv.append(",,\n");
+
+        ContactImportResponse contactImportResponse = contactImportService.importContacts("jane123", token, ContactFileFormat.CSV, toInputStream(csv.toString()));
+
+        assertEquals("COMPLETED", contactImportResponse.getStatus());
+        assertEquals(11, contactImportResponse.getProcessedCount());
+        assertEquals(9, contactImportResponse.getImportedCount());
+        assertEquals(2, contactImportResponse.getFailedCount());
+        assertEquals(4, contactImportResponse.getErrors().getFirst().getRecordNumber());
+        assertEquals(11, contactImportResponse.getErrors().get(1).getRecordNumber());
+
+        User janeContactBox = userRepository.findByUsername("jane123");
+        assertEquals(9, contactRepository.count());
+        assertEquals(9, janeContactBox.getContacts().size());
+        assertNotNull(janeContactBox.getContacts().findByName("contact10", 1).getFirst());
+    }
+
+    @Test
+    public void userImportsCsv_WithOversizedRecord_RecordIsReportedAsFailedTest() {
+        String csv = "firstName,phoneNumber,notes\n"
+                + "jill,08123456789,friend\n"
+                + "jessica,08123456780," + "x".repeat(MAX_RECORD_LENGTH) + "\n"
+                + "jennifer,08123456781,friend\n";
+
+        ContactImportResponse contactImportResponse = contactImportService.importContacts("jane123", token, ContactFileFormat.CSV, toInputStream(csv));
+
+        assertEquals("COMPLETED", contactImportResponse.getStatus());
+        assertEquals(2, contactImportResponse.getImportedCount());
+        assertEquals(1, contactImportResponse.getFailedCount());
+        assertEquals(2, contactImportResponse.getErrors().getFirst().getRecordNumber());
+        assertEquals(2, contactRepository.count());
+    }
+
+    @Test
+    public void userImportsContactsFromVCardTest() {
+        String vCards = """
+                BEGIN:VCARD
+                VERSION:3.0
+                N:Smith;Jill;;;
+                TEL:09123456789
+                END:VCARD
+                """;
+
+        ContactImportResponse contactImportResponse = contactImportService.importContacts("jane123", token, ContactFileFormat.VCARD, toInputStream(vCards));
+
+        assertEquals(1, contactImportResponse.getImportedCount());
+        assertEquals("jill", userRepository.findByUsername("jane123").getContacts().getFirst().getFirstName());
+    }
+
+    @Test
+    public void userImportsCsv_WithoutContactColumns_ImportFailsTest() {
+        ContactImportResponse contactImportResponse = contactImportService.importContacts("jane123", token, ContactFileFormat.CSV, toInputStream("id,created\n1,today\n"));
+
+        assertEquals("FAILED", contactImportResponse.getStatus());
+        assertEquals(0, contactRepository.count());
+    }
+
+    @Test
+    public void nonExistentUserImportsContacts_ThrowsExceptionTest() {
+        assertThrows(ProfileLockException.class, ()->contactImportService.importContacts("jessica123", token, ContactFileFormat.CSV, toInputStream("firstName\njill\n")));
+    }
+
+    @Test
+    public void userLogsOut_ImportsContacts_ThrowsExceptionTest() {
+        LogoutRequest logoutRequest = new LogoutRequest();
+        logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
+        userService.logout(logoutRequest);
+
+        assertThrows(ProfileLockException.class, ()->contactImportService.importContacts("jane123", token, ContactFileFormat.CSV, toInputStream("firstName\njill\n")));
+    }
+
+    @Test
+    public void userFindsImportProgress_WithNoRunningImport_ThrowsExceptionTest() {
+        ContactImportProgressRequest contactImportProgressRequest = new ContactImportProgressRequest();
+        contactImportProgressRequest.setUsername("jane123");
+        contactImportProgressRequest.setToken(token);
+
+        assertThrows(IllegalArgumentException.class, ()->contactImportService.findImportProgress(contactImportProgressRequest));
+    }
+
+    private static InputStream toInputStream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,129 @@
+package com.contactBox.services;
+
+import com.contactBox.configurations.MongoCommandCounter;
+import com.contactBox.data.models.Contact;
+import com.contactBox.data.models.User;
+import com.contactBox.data.repositories.ContactRepository;
+import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.data.sessions.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "contactbox.mongo.count-commands=true")
+public class ContactWriteCombinerTest {
+
+    @Autowired
+    private ContactWriteCombiner contactWriteCombiner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private MongoCommandCounter mongoCommandCounter;
+
+    private Session session;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        contactRepository.deleteAll();
+        User user = new User();
+        user.setUsername("jane123");
+        userRepository.save(user);
+        session = new Session("token", user.getId(), "jane123", Long.MAX_VALUE);
+    }
+
+    @Test
+    public void concurrentSingleContactCreates_AreWrittenInBatchesTest() throws Throwable {
+        int threadCount = 32;
+        int contactsPerThread = 10;
+        mongoCommandCounter.reset();
+
+        runConcurrently(threadCount, thread -> {
+            for (int count = 0; count < contactsPerThread; count++) {
+                contactWriteCombiner.createContact(session, contact("friend" + thread));
+            }
+        });
+
+        int contacts = threadCount * contactsPerThread;
+        assertEquals(contacts, contactRepository.count());
+        assertEquals(contacts, userRepository.findByUsername("jane123").getContacts().size());
+        assertTrue(mongoCommandCounter.count("insert", "Contacts") < contacts);
+        assertTrue(mongoCommandCounter.count("update", "Users") < contacts);
+    }
+
+    @Test
+    public void createFailsInTheSameBatch_DeletesStillSucceedTest() throws Throwable {
+        int pairCount = 32;
+        List<Contact> contacts = new ArrayList<>();
+        for (int count = 0; count < pairCount; count++) {
+            contacts.add(contactWriteCombiner.createContact(session, contact("friend" + count)));
+        }
+        AtomicInteger failedCreates = new AtomicInteger();
+
+        runConcurrently(pairCount * 2, thread -> {
+            Contact existingContact = contacts.get(thread / 2);
+            if (thread % 2 == 0) {
+                assertEquals(existingContact.getId(), contactWriteCombiner.deleteContact(session, existingContact.getId()).getId());
+                return;
+            }
+            Contact duplicateContact = contact("duplicate" + thread);
+            duplicateContact.setId(contacts.get((thread / 2 + 1) % pairCount).getId());
+            assertThrows(DataAccessException.class, ()->contactWriteCombiner.createContact(session, duplicateContact));
+            failedCreates.incrementAndGet();
+        });
+
+        assertEquals(pairCount, failedCreates.get());
+        assertEquals(0, userRepository.findByUsername("jane123").getContacts().size());
+    }
+
+    private Contact contact(String firstName) {
+        Contact contact = new Contact();
+        contact.setFirstName(firstName);
+        contact.setOwnerId(session.userId());
+        return contact;
+    }
+
+    private static void runConcurrently(int threadCount, ThreadTask task) throws Throwable {
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            int threadNumber = thread;
+            threads.add(Thread.ofPlatform().start(()->{
+                try {
+                    start.await();
+                    task.run(threadNumber);
+                }
+                catch (Throwable error) {
+                    failures.add(error);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(60_000);
+            assertFalse(thread.isAlive(), "Write did not complete in time.");
+        }
+        if (!failures.isEmpty()) throw failures.peek();
+    }
+
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,168 @@
+package com.contactBox.services;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.dataTransferObjects.requests.*;
+import com.contactBox.dataTransferObjects.responses.*;
+import com.contactBox.exceptions.ProfileLockException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+public class ReactiveUserServiceImplementationTest extends UserServiceImplementationTest {
+
+    @Autowired
+    private ReactiveUserService reactiveUserService;
+
+    @Test
+    public void userStreamsAllContacts_OnDemandTest() {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("jane123");
+        loginRequest.setPassword("password");
+        String token = reactiveUserService.login(loginRequest).block().getToken();
+        List<CreateContactRequest> createContactRequests = new ArrayList<>();
+        for (int count = 0; count < 20; count++) {
+            CreateContactRequest createContactRequest = new CreateContactRequest();
+            createContactRequest.setFirstName("contact" + count);
+            createContactRequests.add(createContactRequest);
+        }
+        BulkCreateContactRequest bulkCreateContactRequest = new BulkCreateContactRequest();
+        bulkCreateContactRequest.setUsername("jane123");
+        bulkCreateContactRequest.setToken(token);
+        bulkCreateContactRequest.setContacts(createContactRequests);
+        reactiveUserService.bulkCreateContacts(bulkCreateContactRequest).block();
+
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+
+        StepVerifier.create(reactiveUserService.streamAllContacts(findAllContactRequest), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(1)
+                .expectNextMatches(contact -> contact.getFirstName().equals("jill"))
+                .thenRequest(5)
+                .expectNextCount(5)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void userLogsOut_StreamsAllContacts_ErrorIsSignalledTest() {
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken("not-a-token");
+
+        StepVerifier.create(reactiveUserService.streamAllContacts(findAllContactRequest))
+                .expectError(ProfileLockException.class)
+                .verify();
+    }
+
+    @Test
+    public void userExportsContacts_WithoutFormat_ErrorIsSignalledTest() {
+        ExportContactRequest exportContactRequest = new ExportContactRequest();
+        exportContactRequest.setUsername("jane123");
+
+        StepVerifier.create(reactiveUserService.exportContacts(exportContactRequest))
+                .expectErrorMessage("Please enter a valid export format.")
+                .verify();
+    }
+
+    @TestConfiguration
+    static class BlockingUserServiceConfiguration {
+
+        @Bean
+        @Primary
+        public UserService blockingUserService(ReactiveUserService reactiveUserService) {
+            return new BlockingUserService(reactiveUserService);
+        }
+    }
+
+    private record BlockingUserService(ReactiveUserService reactiveUserService) implements UserService {
+
+        @Override
+        public CompletableFuture<SignUpResponse> signUp(SignUpRequest signUpRequest) {
+            return reactiveUserService.signUp(signUpRequest).toFuture();
+        }
+
+        @Override
+        public LogoutResponse logout(LogoutRequest logoutRequest) {
+            return reactiveUserService.logout(logoutRequest).block();
+        }
+
+        @Override
+        public CompletableFuture<LoginResponse> login(LoginRequest loginRequest) {
+            return reactiveUserService.login(loginRequest).toFuture();
+        }
+
+        @Override
+        public CreateContactResponse createContact(CreateContactRequest createContactRequest) {
+            return reactiveUserService.createContact(createContactRequest).block();
+        }
+
+        @Override
+        public BulkCreateContactResponse bulkCreateContacts(BulkCreateContactRequest bulkCreateContactRequest) {
+            return reactiveUserService.bulkCreateContacts(bulkCreateContactRequest).block();
+        }
+
+        @Override
+        public UpdateContactResponse updateContact(UpdateContactRequest updateContactRequest) {
+            return reactiveUserService.updateContact(updateContactRequest).block();
+        }
+
+        @Override
+        public BulkUpdateContactResponse bulkUpdateContacts(BulkUpdateContactRequest bulkUpdateContactRequest) {
+            return reactiveUserService.bulkUpdateContacts(bulkUpdateContactRequest).block();
+        }
+
+        @Override
+        public FindContactByIdResponse findContactById(FindContactByIdRequest findContactByIdRequest) {
+            return reactiveUserService.findContactById(findContactByIdRequest).block();
+        }
+
+        @Override
+        public CompletableFuture<DeleteContactResponse> deleteContact(DeleteContactRequest deleteContactRequest) {
+            return reactiveUserService.deleteContact(deleteContactRequest).toFuture();
+        }
+
+        @Override
+        public CompletableFuture<BulkDeleteContactResponse> bulkDeleteContacts(BulkDeleteContactRequest bulkDeleteContactRequest) {
+            return reactiveUserService.bulkDeleteContacts(bulkDeleteContactRequest).toFuture();
+        }
+
+        @Override
+        public FindAllContactsResponse findAllContacts(FindAllContactRequest findAllContactRequest) {
+            return reactiveUserService.findAllContacts(findAllContactRequest).block();
+        }
+
+        @Override
+        public Stream<Contact> streamAllContacts(FindAllContactRequest findAllContactRequest) {
+            return reactiveUserService.streamAllContacts(findAllContactRequest).toStream();
+        }
+
+        @Override
+        public Stream<Contact> exportContacts(ExportContactRequest exportContactRequest) {
+            return reactiveUserService.exportContacts(exportContactRequest).toStream();
+        }
+
+        @Override
+        public FindContactByNameResponse findContactByName(FindContactByNameRequest findContactByNameRequest) {
+            return reactiveUserService.findContactByName(findContactByNameRequest).block();
+        }
+
+        @Override
+        public FindContactByPhoneNumberResponse findContactByPhoneNumber(FindContactByPhoneNumberRequest findContactByPhoneNumberRequest) {
+            return reactiveUserService.findContactByPhoneNumber(findContactByPhoneNumberRequest).block();
+        }
+    }
+}
@@ -1,15 +1,29 @@
 package com.contactBox.services;
 
+import com.contactBox.data.cache.UserCache;
+import com.contactBox.data.models.Contact;
 import com.contactBox.data.models.User;
 import com.contactBox.data.repositories.ContactRepository;
 import com.contactBox.data.repositories.UserRepository;
+import com.contactBox.data.sessions.SessionStore;
 import com.contactBox.dataTransferObjects.requests.*;
 import com.contactBox.dataTransferObjects.responses.*;
 import com.contactBox.exceptions.*;
+import com.contactBox.security.PasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +39,14 @@ public class UserServiceImplementationTest {
     @Autowired
     private ContactRepository contactRepository;
 
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    private String token;
+
     @BeforeEach
     public void setUp(){
         userRepository.deleteAll();
@@ -34,10 +56,11 @@ public class UserServiceImplementationTest {
         signUpRequest.setUsername("jane123");
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
-        userService.signUp(signUpRequest);
+        token = userService.signUp(signUpRequest).join().getToken();
 
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jill");
         createContactRequest.setLastName("smith");
         createContactRequest.setPhoneNumber("09123456789");
@@ -57,7 +80,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setUsername("jessica123");
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
-        SignUpResponse jessicaSignUpResponse = userService.signUp(signUpRequest);
+        SignUpResponse jessicaSignUpResponse = userService.signUp(signUpRequest).join();
 
         User jessicaContactBox = userRepository.findByUsername("jessica123");
 
@@ -73,7 +96,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
@@ -83,7 +106,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
@@ -93,7 +116,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("password");
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
@@ -103,7 +126,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword("password123");
         signUpRequest.setConfirmPassword("password123");
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
@@ -113,7 +136,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword(null);
         signUpRequest.setConfirmPassword(null);
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
@@ -123,7 +146,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword("");
         signUpRequest.setConfirmPassword("");
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
@@ -133,7 +156,7 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword("word");
         signUpRequest.setConfirmPassword("word");
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
@@ -143,18 +166,19 @@ public class UserServiceImplementationTest {
         signUpRequest.setPassword("password");
         signUpRequest.setConfirmPassword("word");
 
-        assertThrows(IllegalArgumentException.class, ()->userService.signUp(signUpRequest));
+        assertThrows(IllegalArgumentException.class, ()->await(userService.signUp(signUpRequest)));
     }
 
     @Test
     public void userSignsUp_UserLogsOutTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         User janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
     }
@@ -164,42 +188,83 @@ public class UserServiceImplementationTest {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jill123");
 
-        assertThrows(UserNotFoundException.class, ()->userService.logout(logoutRequest));
+        assertThrows(ProfileLockException.class, ()->userService.logout(logoutRequest));
     }
 
     @Test
     public void userLogsOut_UserLogsInTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         User janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
         LoginRequest loginRequest = new LoginRequest();
         loginRequest.setUsername("jane123");
         loginRequest.setPassword("password");
-        LoginResponse janeLoginResponse = userService.login(loginRequest);
+        LoginResponse janeLoginResponse = userService.login(loginRequest).join();
 
         janeContactBox = userRepository.findByUsername("jane123");
 
-        assertFalse(janeContactBox.isLocked());
+        assertNotNull(sessionStore.find(janeLoginResponse.getToken()));
         assertEquals(janeContactBox.getId(), janeLoginResponse.getUserId());
         assertEquals("jane123", janeLoginResponse.getUsername());
     }
 
+    @Test
+    public void userUsesAnotherUsersToken_ThrowsExceptionTest() {
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("jessica123");
+        signUpRequest.setPassword("password");
+        signUpRequest.setConfirmPassword("password");
+        userService.signUp(signUpRequest).join();
+
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jessica123");
+        findAllContactRequest.setToken(token);
+
+        assertThrows(ProfileLockException.class, ()->userService.findAllContacts(findAllContactRequest));
+    }
+
+    @Test
+    public void userSignsUp_PasswordIsHashedTest() {
+        User janeContactBox = userRepository.findByUsername("jane123");
+
+        assertNotEquals("password", janeContactBox.getPassword());
+        assertTrue(janeContactBox.getPassword().startsWith(PasswordHasher.HASH_PREFIX));
+    }
+
+    @Test
+    public void userWithPlaintextPassword_LogsIn_PasswordIsRehashedTest() {
+        User jessica = new User();
+        jessica.setUsername("jessica123");
+        jessica.setPassword("password");
+        userRepository.insert(jessica);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("jessica123");
+        loginRequest.setPassword("password");
+        userService.login(loginRequest).join();
+
+        assertTrue(userRepository.findByUsername("jessica123").getPassword().startsWith(PasswordHasher.HASH_PREFIX));
+        assertNotNull(userService.login(loginRequest).join().getToken());
+    }
+
     @Test
     public void nonExistentUserLogsIn_ThrowsExceptionTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         User janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
@@ -207,18 +272,19 @@ public class UserServiceImplementationTest {
         loginRequest.setUsername("jill123");
         loginRequest.setPassword("password");
 
-        assertThrows(UserNotFoundException.class, ()->userService.login(loginRequest));
+        assertThrows(UserNotFoundException.class, ()->await(userService.login(loginRequest)));
     }
 
     @Test
     public void userLogsIn_PasswordIsInvalid_ThrowsExceptionTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         User janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
@@ -226,13 +292,14 @@ public class UserServiceImplementationTest {
         loginRequest.setUsername("jane123");
         loginRequest.setPassword("word");
 
-        assertThrows(InvalidPasswordException.class, ()->userService.login(loginRequest));
+        assertThrows(InvalidPasswordException.class, ()->await(userService.login(loginRequest)));
     }
 
     @Test
     public void userCreatesContactTest() {
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jessica");
         createContactRequest.setLastName("brown");
         createContactRequest.setPhoneNumber("08123456789");
@@ -249,25 +316,225 @@ public class UserServiceImplementationTest {
 
         assertEquals("jessica", janeContactBox.getContacts().get(1).getFirstName());
         assertEquals(2, contactRepository.count());
-        assertEquals("08123456789", contactRepository.findAll().get(1).getPhoneNumber());
+        assertEquals("08123456789", contactRepository.findAll(Sort.by("_id")).get(1).getPhoneNumber());
         assertEquals(2, janeContactBox.getContacts().size());
         assertEquals("jane123", janeCreateContactResponse.getUsername());
     }
 
+    @Test
+    public void userCreatesContactsConcurrently_NoContactIsLostTest() throws InterruptedException {
+        int contacts = 20;
+        List<Thread> threads = new ArrayList<>();
+        for (int index = 0; index < contacts; index++) {
+            CreateContactRequest createContactRequest = new CreateContactRequest();
+            createContactRequest.setUsername("jane123");
+            createContactRequest.setToken(token);
+            createContactRequest.setFirstName("friend" + index);
+            createContactRequest.setPhoneNumber("08123456789");
+            threads.add(Thread.ofPlatform().start(()->userService.createContact(createContactRequest)));
+        }
+        for (Thread thread : threads) thread.join();
+
+        User janeContactBox = userRepository.findByUsername("jane123");
+
+        assertEquals(contacts + 1, contactRepository.count());
+        assertEquals(contacts + 1, janeContactBox.getContacts().size());
+    }
+
+    @Test
+    public void userBulkCreatesContacts_InvalidContactIsReportedTest() {
+        CreateContactRequest jessica = new CreateContactRequest();
+        jessica.setFirstName("jessica");
+        jessica.setPhoneNumber("08123456789");
+        CreateContactRequest invalidContact = new CreateContactRequest();
+        invalidContact.setPhoneNumber("08123abcdef");
+        CreateContactRequest jennifer = new CreateContactRequest();
+        jennifer.setFirstName("jennifer");
+
+        BulkCreateContactRequest bulkCreateContactRequest = new BulkCreateContactRequest();
+        bulkCreateContactRequest.setUsername("jane123");
+        bulkCreateContactRequest.setToken(token);
+        bulkCreateContactRequest.setContacts(List.of(jessica, invalidContact, jennifer));
+        BulkCreateContactResponse bulkCreateContactResponse = userService.bulkCreateContacts(bulkCreateContactRequest);
+
+        assertEquals(2, bulkCreateContactResponse.getCreatedCount());
+        assertEquals(1, bulkCreateContactResponse.getFailedCount());
+        assertTrue(bulkCreateContactResponse.getResults().getFirst().isSuccessful());
+        assertFalse(bulkCreateContactResponse.getResults().get(1).isSuccessful());
+        assertEquals(1, bulkCreateContactResponse.getResults().get(1).getIndex());
+
+        User janeContactBox = userRepository.findByUsername("jane123");
+        assertEquals(3, contactRepository.count());
+        assertEquals(3, janeContactBox.getContacts().size());
+        assertEquals("jessica", janeContactBox.getContacts().get(1).getFirstName());
+        assertEquals("jennifer", janeContactBox.getContacts().get(2).getFirstName());
+        assertEquals(bulkCreateContactResponse.getResults().get(2).getContactId(), janeContactBox.getContacts().get(2).getId());
+    }
+
+    @Test
+    public void userBulkCreatesContacts_ContactsListIsEmpty_ThrowsExceptionTest() {
+        BulkCreateContactRequest bulkCreateContactRequest = new BulkCreateContactRequest();
+        bulkCreateContactRequest.setUsername("jane123");
+        bulkCreateContactRequest.setToken(token);
+        bulkCreateContactRequest.setContacts(List.of());
+
+        assertThrows(IllegalArgumentException.class, ()->userService.bulkCreateContacts(bulkCreateContactRequest));
+    }
+
+    @Test
+    public void userBulkUpdatesContacts_InvalidContactIsReportedTest() {
+        String contactId = userRepository.findByUsername("jane123").getContacts().getFirst().getId();
+        UpdateContactRequest jill = new UpdateContactRequest();
+        jill.setId(contactId);
+        jill.setFirstName("Jillian");
+        jill.setPhoneNumber("+2348123456789");
+        jill.setCity("boston");
+        UpdateContactRequest nonExistentContact = new UpdateContactRequest();
+        nonExistentContact.setId("nonExistentId");
+        nonExistentContact.setFirstName("jessica");
+
+        BulkUpdateContactRequest bulkUpdateContactRequest = new BulkUpdateContactRequest();
+        bulkUpdateContactRequest.setUsername("jane123");
+        bulkUpdateContactRequest.setToken(token);
+        bulkUpdateContactRequest.setContacts(List.of(jill, nonExistentContact));
+        BulkUpdateContactResponse bulkUpdateContactResponse = userService.bulkUpdateContacts(bulkUpdateContactRequest);
+
+        assertEquals(1, bulkUpdateContactResponse.getUpdatedCount());
+        assertEquals(1, bulkUpdateContactResponse.getFailedCount());
+        assertEquals(contactId, bulkUpdateContactResponse.getResults().getFirst().getContactId());
+        assertFalse(bulkUpdateContactResponse.getResults().get(1).isSuccessful());
+
+        User janeContactBox = userRepository.findByUsername("jane123");
+        assertEquals("jillian", janeContactBox.getContacts().getFirst().getFirstName());
+        assertEquals("smith", janeContactBox.getContacts().getFirst().getLastName());
+        assertEquals("+2348123456789", janeContactBox.getContacts().getFirst().getPhoneNumber());
+        assertEquals("boston", janeContactBox.getContacts().getFirst().getAddress().getCity());
+        assertEquals("broadway", janeContactBox.getContacts().getFirst().getAddress().getStreet());
+    }
+
+    @Test
+    public void userBulkUpdatesContacts_WithNullFields_IsReportedTest() {
+        UpdateContactRequest jill = new UpdateContactRequest();
+        jill.setId(userRepository.findByUsername("jane123").getContacts().getFirst().getId());
+
+        BulkUpdateContactRequest bulkUpdateContactRequest = new BulkUpdateContactRequest();
+        bulkUpdateContactRequest.setUsername("jane123");
+        bulkUpdateContactRequest.setToken(token);
+        bulkUpdateContactRequest.setContacts(List.of(jill));
+        BulkUpdateContactResponse bulkUpdateContactResponse = userService.bulkUpdateContacts(bulkUpdateContactRequest);
+
+        assertEquals(0, bulkUpdateContactResponse.getUpdatedCount());
+        assertEquals(1, bulkUpdateContactResponse.getFailedCount());
+        assertEquals("jill", userRepository.findByUsername("jane123").getContacts().getFirst().getFirstName());
+    }
+
+    @Test
+    public void userBulkDeletesContactsTest() {
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
+        createContactRequest.setFirstName("jessica");
+        createContactRequest.setPhoneNumber("08123456789");
+        userService.createContact(createContactRequest);
+        User janeContactBox = userRepository.findByUsername("jane123");
+        String jillId = janeContactBox.getContacts().getFirst().getId();
+        String jessicaId = janeContactBox.getContacts().get(1).getId();
+
+        BulkDeleteContactRequest bulkDeleteContactRequest = new BulkDeleteContactRequest();
+        bulkDeleteContactRequest.setUsername("jane123");
+        bulkDeleteContactRequest.setToken(token);
+        bulkDeleteContactRequest.setPassword("password");
+        bulkDeleteContactRequest.setContactIds(List.of(jillId, "nonExistentId", jillId));
+        BulkDeleteContactResponse bulkDeleteContactResponse = userService.bulkDeleteContacts(bulkDeleteContactRequest).join();
+
+        assertEquals(1, bulkDeleteContactResponse.getDeletedCount());
+        assertEquals(2, bulkDeleteContactResponse.getFailedCount());
+        assertEquals(1, contactRepository.count());
+        janeContactBox = userRepository.findByUsername("jane123");
+        assertEquals(1, janeContactBox.getContacts().size());
+        assertEquals(jessicaId, janeContactBox.getContacts().getFirst().getId());
+    }
+
+    @Test
+    public void manyThreadsCreateAndBulkDeleteContacts_NoContactIsLostTest() throws Throwable {
+        int threadCount = 8;
+        int contactsPerThread = 10;
+        AtomicInteger exhaustedDeletes = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            String firstName = "friend" + thread;
+            threads.add(Thread.ofPlatform().start(()->{
+                try {
+                    List<String> contactIds = new ArrayList<>();
+                    for (int count = 0; count < contactsPerThread; count++) {
+                        CreateContactRequest createContactRequest = new CreateContactRequest();
+                        createContactRequest.setUsername("jane123");
+                        createContactRequest.setToken(token);
+                        createContactRequest.setFirstName(firstName);
+                        createContactRequest.setPhoneNumber("08123456789");
+                        contactIds.add(userService.createContact(createContactRequest).getContactId());
+                    }
+                    BulkDeleteContactRequest bulkDeleteContactRequest = new BulkDeleteContactRequest();
+                    bulkDeleteContactRequest.setUsername("jane123");
+                    bulkDeleteContactRequest.setToken(token);
+                    bulkDeleteContactRequest.setPassword("password");
+                    bulkDeleteContactRequest.setContactIds(contactIds.subList(0, contactsPerThread / 2));
+                    try {
+                        assertEquals(contactsPerThread / 2, await(userService.bulkDeleteContacts(bulkDeleteContactRequest)).getDeletedCount());
+                    }
+                    catch (IllegalStateException error) {
+                        exhaustedDeletes.incrementAndGet();
+                    }
+                }
+                catch (Throwable error) {
+                    failures.add(error);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join(60_000);
+            assertFalse(thread.isAlive(), "Contacts were not created and deleted in time.");
+        }
+        if (!failures.isEmpty()) throw failures.peek();
+
+        User janeContactBox = userRepository.findByUsername("jane123");
+        int deletedContacts = (threadCount - exhaustedDeletes.get()) * contactsPerThread / 2;
+        int remainingContacts = 1 + threadCount * contactsPerThread - deletedContacts;
+
+        assertTrue(exhaustedDeletes.get() < threadCount);
+        assertEquals(remainingContacts, contactRepository.count());
+        assertEquals(remainingContacts, janeContactBox.getContacts().size());
+    }
+
+    @Test
+    public void userBulkDeletesContacts_WithIncorrectPassword_ThrowsExceptionTest() {
+        BulkDeleteContactRequest bulkDeleteContactRequest = new BulkDeleteContactRequest();
+        bulkDeleteContactRequest.setUsername("jane123");
+        bulkDeleteContactRequest.setToken(token);
+        bulkDeleteContactRequest.setPassword("incorrectPassword");
+        bulkDeleteContactRequest.setContactIds(List.of(userRepository.findByUsername("jane123").getContacts().getFirst().getId()));
+
+        assertThrows(InvalidPasswordException.class, ()->await(userService.bulkDeleteContacts(bulkDeleteContactRequest)));
+        assertEquals(1, contactRepository.count());
+    }
+
     @Test
     public void userLogsOut_UserCreatesContact_ThrowsExceptionTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         User janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jessica");
         createContactRequest.setLastName("brown");
         createContactRequest.setPhoneNumber("08123456789");
@@ -285,13 +552,26 @@ public class UserServiceImplementationTest {
         createContactRequest.setPhoneNumber("08123456789");
         createContactRequest.setEmail("jessicabrown@gmail.com");
 
-        assertThrows(UserNotFoundException.class, ()->userService.createContact(createContactRequest));
+        assertThrows(ProfileLockException.class, ()->userService.createContact(createContactRequest));
+    }
+
+    @Test
+    public void userCreatesContact_WithoutUsername_ThrowsExceptionTest() {
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setToken(token);
+        createContactRequest.setFirstName("jessica");
+        createContactRequest.setPhoneNumber("08123456789");
+        long contacts = contactRepository.count();
+
+        assertThrows(ProfileLockException.class, ()->userService.createContact(createContactRequest));
+        assertEquals(contacts, contactRepository.count());
     }
 
     @Test
     public void userCreatesContact_PhoneNumberIsInvalid_ThrowsExceptionTest() {
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jessica");
         createContactRequest.setLastName("brown");
         createContactRequest.setPhoneNumber("08123abcdef");
@@ -304,6 +584,7 @@ public class UserServiceImplementationTest {
     public void userCreatesContact_AllFieldsAreNullOrEmpty_ThrowsExceptionTest() {
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
 
         assertThrows(IllegalArgumentException.class, ()->userService.createContact(createContactRequest));
     }
@@ -315,6 +596,7 @@ public class UserServiceImplementationTest {
 
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId(contactId);
         updateContactRequest.setEmail("jillsmith@yahoo.com");
         updateContactRequest.setPhoneNumber("07123456789");
@@ -326,11 +608,68 @@ public class UserServiceImplementationTest {
         assertEquals(1, janeContactBox.getContacts().size());
         assertEquals("jill", janeContactBox.getContacts().getFirst().getFirstName());
         assertEquals("jillsmith@yahoo.com", janeContactBox.getContacts().getFirst().getEmail());
-        assertEquals("07123456789", contactRepository.findAll().getFirst().getPhoneNumber());
+        assertEquals("07123456789", contactRepository.findAll(Sort.by("_id")).getFirst().getPhoneNumber());
         assertEquals("wall street", janeContactBox.getContacts().getFirst().getAddress().getStreet());
         assertEquals(janeContactBox.getId(), janeUpdateContactResponse.getUserId());
     }
 
+    @Test
+    public void userUpdatesContactNotes_OtherFieldsAreUnchangedTest() {
+        String contactId = userRepository.findByUsername("jane123").getContacts().getFirst().getId();
+
+        UpdateContactRequest updateContactRequest = new UpdateContactRequest();
+        updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
+        updateContactRequest.setId(contactId);
+        updateContactRequest.setNotes("moved to boston.");
+        userService.updateContact(updateContactRequest);
+
+        Contact jill = contactRepository.findById(contactId).orElseThrow();
+        assertEquals("moved to boston.", jill.getNotes());
+        assertEquals("jill", jill.getFirstName());
+        assertEquals("09123456789", jill.getPhoneNumber());
+        assertEquals("broadway", jill.getAddress().getStreet());
+        assertEquals("new york city", jill.getAddress().getCity());
+    }
+
+    @Test
+    public void userUpdatesContact_CachedContactIsRefreshedTest() {
+        String contactId = userRepository.findByUsername("jane123").getContacts().getFirst().getId();
+        FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
+        findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
+        findContactByIdRequest.setContactId(contactId);
+        userService.findContactById(findContactByIdRequest);
+
+        UpdateContactRequest updateContactRequest = new UpdateContactRequest();
+        updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
+        updateContactRequest.setId(contactId);
+        updateContactRequest.setEmail("jillsmith@yahoo.com");
+        userService.updateContact(updateContactRequest);
+
+        assertEquals("jillsmith@yahoo.com", userService.findContactById(findContactByIdRequest).getContact().getEmail());
+    }
+
+    @Test
+    public void userUpdatesAnotherUsersContact_ThrowsExceptionTest() {
+        String contactId = userRepository.findByUsername("jane123").getContacts().getFirst().getId();
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("jessica123");
+        signUpRequest.setPassword("password");
+        signUpRequest.setConfirmPassword("password");
+        String jessicaToken = userService.signUp(signUpRequest).join().getToken();
+
+        UpdateContactRequest updateContactRequest = new UpdateContactRequest();
+        updateContactRequest.setUsername("jessica123");
+        updateContactRequest.setToken(jessicaToken);
+        updateContactRequest.setId(contactId);
+        updateContactRequest.setEmail("jessica@gmail.com");
+
+        assertThrows(ContactNotFoundException.class, ()->userService.updateContact(updateContactRequest));
+        assertEquals("jillsmith@gmail.com", contactRepository.findById(contactId).orElseThrow().getEmail());
+    }
+
     @Test
     public void nonExistentUser_UpdatesContact_ThrowsExceptionTest() {
         User janeContactBox = userRepository.findByUsername("jane123");
@@ -343,13 +682,14 @@ public class UserServiceImplementationTest {
         updateContactRequest.setPhoneNumber("07123456789");
         updateContactRequest.setStreet("wall street");
 
-        assertThrows(UserNotFoundException.class, ()->userService.updateContact(updateContactRequest));
+        assertThrows(ProfileLockException.class, ()->userService.updateContact(updateContactRequest));
     }
 
     @Test
     public void userUpdatesNonExistentContact_ThrowsExceptionTest() {
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId("non existent contact id");
         updateContactRequest.setEmail("jillsmith@yahoo.com");
         updateContactRequest.setPhoneNumber("07123456789");
@@ -365,6 +705,7 @@ public class UserServiceImplementationTest {
 
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId(contactId);
         updateContactRequest.setEmail("jillsmith@yahoo.com");
         updateContactRequest.setPhoneNumber("07123abcdef");
@@ -380,16 +721,18 @@ public class UserServiceImplementationTest {
 
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
         UpdateContactRequest updateContactRequest = new UpdateContactRequest();
         updateContactRequest.setUsername("jane123");
+        updateContactRequest.setToken(token);
         updateContactRequest.setId(contactId);
         updateContactRequest.setPhoneNumber("07123456789");
         updateContactRequest.setStreet("broadway");
@@ -404,6 +747,7 @@ public class UserServiceImplementationTest {
 
         FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
         findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
         findContactByIdRequest.setContactId(contactId);
         FindContactByIdResponse janeFindContactByIdResponse = userService.findContactById(findContactByIdRequest);
 
@@ -414,6 +758,44 @@ public class UserServiceImplementationTest {
         assertEquals(janeContactBox.getContacts().getFirst(), janeFindContactByIdResponse.getContact());
     }
 
+    @Test
+    public void userFindsContactById_IsServedFromCacheTest() {
+        String contactId = userRepository.findByUsername("jane123").getContacts().getFirst().getId();
+        FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
+        findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
+        findContactByIdRequest.setContactId(contactId);
+        userService.findContactById(findContactByIdRequest);
+        long hitCount = userCache.stats().hitCount();
+        long missCount = userCache.stats().missCount();
+
+        FindContactByIdResponse findContactByIdResponse = userService.findContactById(findContactByIdRequest);
+
+        assertEquals(contactId, findContactByIdResponse.getContact().getId());
+        assertEquals(hitCount + 1, userCache.stats().hitCount());
+        assertEquals(missCount, userCache.stats().missCount());
+    }
+
+    @Test
+    public void userStreamsAllContacts_UserIsNotLoadedTest() {
+        userCache.evict("jane123");
+        long hitCount = userCache.stats().hitCount();
+        long missCount = userCache.stats().missCount();
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+
+        List<Contact> contacts;
+        try (Stream<Contact> contactStream = userService.streamAllContacts(findAllContactRequest)) {
+            contacts = contactStream.toList();
+        }
+
+        assertEquals(1, contacts.size());
+        assertEquals("jill", contacts.getFirst().getFirstName());
+        assertEquals(hitCount, userCache.stats().hitCount());
+        assertEquals(missCount, userCache.stats().missCount());
+    }
+
     @Test
     public void userLogsOut_UserFindsContactById_ThrowsExceptionTest() {
         User janeContactBox = userRepository.findByUsername("jane123");
@@ -421,16 +803,18 @@ public class UserServiceImplementationTest {
 
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
         FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
         findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
         findContactByIdRequest.setContactId(contactId);
 
         assertThrows(ProfileLockException.class, ()->userService.findContactById(findContactByIdRequest));
@@ -445,13 +829,14 @@ public class UserServiceImplementationTest {
         findContactByIdRequest.setUsername("jessica123");
         findContactByIdRequest.setContactId(contactId);
 
-        assertThrows(UserNotFoundException.class, ()->userService.findContactById(findContactByIdRequest));
+        assertThrows(ProfileLockException.class, ()->userService.findContactById(findContactByIdRequest));
     }
 
     @Test
     public void userFindsContact_WithNonExistentId_ThrowsExceptionTest() {
         FindContactByIdRequest findContactByIdRequest = new FindContactByIdRequest();
         findContactByIdRequest.setUsername("jane123");
+        findContactByIdRequest.setToken(token);
         findContactByIdRequest.setContactId("non existent contact");
 
         assertThrows(ContactNotFoundException.class, ()->userService.findContactById(findContactByIdRequest));
@@ -465,8 +850,9 @@ public class UserServiceImplementationTest {
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId(contactId);
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setPassword("password");
-        DeleteContactResponse deleteContactResponse = userService.deleteContact(deleteContactRequest);
+        DeleteContactResponse deleteContactResponse = userService.deleteContact(deleteContactRequest).join();
 
         janeContactBox = userRepository.findByUsername("jane123");
 
@@ -476,6 +862,37 @@ public class UserServiceImplementationTest {
         assertEquals(0, janeContactBox.getContacts().size());
     }
 
+    @Test
+    public void userDeletesContactConcurrently_ContactIsDeletedOnceTest() throws InterruptedException {
+        String contactId = userRepository.findByUsername("jane123").getContacts().getFirst().getId();
+        DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
+        deleteContactRequest.setContactId(contactId);
+        deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
+        deleteContactRequest.setPassword("password");
+        AtomicInteger deletedCount = new AtomicInteger();
+        AtomicInteger notFoundCount = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            threads.add(Thread.ofPlatform().start(()->{
+                try {
+                    await(userService.deleteContact(deleteContactRequest));
+                    deletedCount.incrementAndGet();
+                }
+                catch (ContactNotFoundException error) {
+                    notFoundCount.incrementAndGet();
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(1, deletedCount.get());
+        assertEquals(3, notFoundCount.get());
+        assertEquals(0, contactRepository.count());
+        assertEquals(0, userRepository.findByUsername("jane123").getContacts().size());
+    }
+
     @Test
     public void nonExistentUser_DeletesContact_ThrowsExceptionTest() {
         User janeContactBox = userRepository.findByUsername("jane123");
@@ -486,17 +903,18 @@ public class UserServiceImplementationTest {
         deleteContactRequest.setUsername("jessica123");
         deleteContactRequest.setPassword("password");
 
-        assertThrows(UserNotFoundException.class, ()->userService.deleteContact(deleteContactRequest));
+        assertThrows(ProfileLockException.class, ()->await(userService.deleteContact(deleteContactRequest)));
     }
 
     @Test
     public void userDeletes_NonExistentContact_ThrowsExceptionTest() {
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setContactId("non existent contact id");
         deleteContactRequest.setPassword("password");
 
-        assertThrows(ContactNotFoundException.class, ()->userService.deleteContact(deleteContactRequest));
+        assertThrows(ContactNotFoundException.class, ()->await(userService.deleteContact(deleteContactRequest)));
     }
 
     @Test
@@ -506,20 +924,22 @@ public class UserServiceImplementationTest {
 
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId(contactId);
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setPassword("password");
 
-        assertThrows(ProfileLockException.class, ()->userService.deleteContact(deleteContactRequest));
+        assertThrows(ProfileLockException.class, ()->await(userService.deleteContact(deleteContactRequest)));
     }
 
     @Test
@@ -530,15 +950,37 @@ public class UserServiceImplementationTest {
         DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
         deleteContactRequest.setContactId(contactId);
         deleteContactRequest.setUsername("jane123");
+        deleteContactRequest.setToken(token);
         deleteContactRequest.setPassword("word");
 
-        assertThrows(InvalidPasswordException.class, ()->userService.deleteContact(deleteContactRequest));
+        assertThrows(InvalidPasswordException.class, ()->await(userService.deleteContact(deleteContactRequest)));
+    }
+
+    @Test
+    public void userDeletesAnotherUsersContact_ThrowsExceptionTest() {
+        String contactId = userRepository.findByUsername("jane123").getContacts().getFirst().getId();
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("jessica123");
+        signUpRequest.setPassword("password");
+        signUpRequest.setConfirmPassword("password");
+        String jessicaToken = userService.signUp(signUpRequest).join().getToken();
+
+        DeleteContactRequest deleteContactRequest = new DeleteContactRequest();
+        deleteContactRequest.setContactId(contactId);
+        deleteContactRequest.setUsername("jessica123");
+        deleteContactRequest.setToken(jessicaToken);
+        deleteContactRequest.setPassword("password");
+
+        assertThrows(ContactNotFoundException.class, ()->await(userService.deleteContact(deleteContactRequest)));
+        assertEquals(1, contactRepository.count());
+        assertEquals(1, userRepository.findByUsername("jane123").getContacts().size());
     }
 
     @Test
     public void userFindsAllContactsTest() {
         FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
         findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
         FindAllContactsResponse janeFindAllContactsResponse = userService.findAllContacts(findAllContactRequest);
 
         assertEquals(1, janeFindAllContactsResponse.getContacts().size());
@@ -546,28 +988,69 @@ public class UserServiceImplementationTest {
         assertEquals("jane123", janeFindAllContactsResponse.getUsername());
     }
 
+    @Test
+    public void userFindsAllContacts_PageByPageTest() {
+        for (String firstName : new String[]{"jessica", "jennifer"}) {
+            CreateContactRequest createContactRequest = new CreateContactRequest();
+            createContactRequest.setUsername("jane123");
+            createContactRequest.setToken(token);
+            createContactRequest.setFirstName(firstName);
+            userService.createContact(createContactRequest);
+        }
+
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+        findAllContactRequest.setLimit(2);
+        FindAllContactsResponse firstPage = userService.findAllContacts(findAllContactRequest);
+
+        assertEquals(2, firstPage.getContacts().size());
+        assertEquals("jill", firstPage.getContacts().getFirst().getFirstName());
+        assertEquals("jessica", firstPage.getContacts().get(1).getFirstName());
+        assertNotNull(firstPage.getNextCursor());
+
+        findAllContactRequest.setCursor(firstPage.getNextCursor());
+        FindAllContactsResponse secondPage = userService.findAllContacts(findAllContactRequest);
+
+        assertEquals(1, secondPage.getContacts().size());
+        assertEquals("jennifer", secondPage.getContacts().getFirst().getFirstName());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    public void userFindsAllContacts_WithInvalidCursor_ThrowsExceptionTest() {
+        FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
+        findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
+        findAllContactRequest.setCursor("not a cursor!");
+
+        assertThrows(IllegalArgumentException.class, ()->userService.findAllContacts(findAllContactRequest));
+    }
+
     @Test
     public void nonExistentUser_FindsAllContact_ThrowsExceptionTest() {
         FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
         findAllContactRequest.setUsername("jessica123");
 
-        assertThrows(UserNotFoundException.class, ()->userService.findAllContacts(findAllContactRequest));
+        assertThrows(ProfileLockException.class, ()->userService.findAllContacts(findAllContactRequest));
     }
 
     @Test
     public void userLogsOut_FindsAllContacts_ThrowsExceptionTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jane123");
+        logoutRequest.setToken(token);
         LogoutResponse janeLogoutResponse = userService.logout(logoutRequest);
 
         User janeContactBox = userRepository.findByUsername("jane123");
 
-        assertTrue(janeContactBox.isLocked());
+        assertNull(sessionStore.find(token));
         assertEquals(janeContactBox.getId(), janeLogoutResponse.getUserId());
         assertEquals("jane123", janeLogoutResponse.getUsername());
 
         FindAllContactRequest findAllContactRequest = new FindAllContactRequest();
         findAllContactRequest.setUsername("jane123");
+        findAllContactRequest.setToken(token);
 
         assertThrows(ProfileLockException.class, ()->userService.findAllContacts(findAllContactRequest));
     }
@@ -576,6 +1059,7 @@ public class UserServiceImplementationTest {
     public void userFindsContactByNameTest() {
         FindContactByNameRequest findContactByNameRequest = new FindContactByNameRequest();
         findContactByNameRequest.setUsername("jane123");
+        findContactByNameRequest.setToken(token);
         findContactByNameRequest.setName("jill");
         FindContactByNameResponse janeFindContactByNameResponse = userService.findContactByName(findContactByNameRequest);
 
@@ -588,6 +1072,7 @@ public class UserServiceImplementationTest {
     public void userFindsTwoContactsByNameTest() {
         CreateContactRequest createContactRequest = new CreateContactRequest();
         createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
         createContactRequest.setFirstName("jill");
         createContactRequest.setLastName("green");
         createContactRequest.setPhoneNumber("06123456789");
@@ -604,12 +1089,13 @@ public class UserServiceImplementationTest {
 
         assertEquals("green", janeContactBox.getContacts().get(1).getLastName());
         assertEquals(2, contactRepository.count());
-        assertEquals("06123456789", contactRepository.findAll().get(1).getPhoneNumber());
+        assertEquals("06123456789", contactRepository.findAll(Sort.by("_id")).get(1).getPhoneNumber());
         assertEquals(2, janeContactBox.getContacts().size());
         assertEquals("jane123", janeCreateContactResponse.getUsername());
 
         FindContactByNameRequest findContactByNameRequest = new FindContactByNameRequest();
         findContactByNameRequest.setUsername("jane123");
+        findContactByNameRequest.setToken(token);
         findContactByNameRequest.setName("jill");
         FindContactByNameResponse janeFindContactByNameResponse = userService.findContactByName(findContactByNameRequest);
 
@@ -619,19 +1105,47 @@ public class UserServiceImplementationTest {
         assertEquals("green", janeFindContactByNameResponse.getContacts().get(1).getLastName());
     }
 
+    @Test
+    public void userFindsContactByNamePrefix_WithLimitTest() {
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setUsername("jane123");
+        createContactRequest.setToken(token);
+        createContactRequest.setFirstName("jillian");
+        createContactRequest.setLastName("green");
+        userService.createContact(createContactRequest);
+
+        FindContactByNameRequest findContactByNameRequest = new FindContactByNameRequest();
+        findContactByNameRequest.setUsername("jane123");
+        findContactByNameRequest.setToken(token);
+        findContactByNameRequest.setName("Jil");
+        findContactByNameRequest.setLimit(1);
+        FindContactByNameResponse janeFindContactByNameResponse = userService.findContactByName(findContactByNameRequest);
+
+        assertEquals(1, janeFindContactByNameResponse.getContacts().size());
+        assertEquals("jill", janeFindContactByNameResponse.getContacts().getFirst().getFirstName());
+
+        findContactByNameRequest.setName("jillian green");
+        findContactByNameRequest.setLimit(null);
+        janeFindContactByNameResponse = userService.findContactByName(findContactByNameRequest);
+
+        assertEquals(1, janeFindContactByNameResponse.getContacts().size());
+        assertEquals("jillian", janeFindContactByNameResponse.getContacts().getFirst().getFirstName());
+    }
+
     @Test
     public void nonExistentUser_FindContactByName_ThrowsExceptionTest() {
         FindContactByNameRequest findContactByNameRequest = new FindContactByNameRequest();
         findContactByNameRequest.setUsername("jessica123");
         findContactByNameRequest.setName("jill");
 
-        assertThrows(UserNotFoundException.class, ()->userService.findContactByName(findContactByNameRequest));
+        assertThrows(ProfileLockException.class, ()->userService.findContactByName(findContactByNameRequest));
     }
 
     @Test
     public void userFindsContact_WithNonExistentName_ThrowsExceptionTest() {
         FindContactByNameRequest findContactByNameRequest = new FindContactByNameRequest();
         findContactByNameRequest.setUsername("jane123");
+        findContactByNameRequest.setToken(token);
         findContactByNameRequest.setName("jessica");
 
         assertThrows(ContactNotFoundException.class,()-> userService.findContactByName(findContactByNameRequest));
@@ -641,6 +1155,7 @@ public class UserServiceImplementationTest {
     public void userFindsContactByPhoneNumberTest() {
         FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
         findContactByPhoneNumberRequest.setUsername("jane123");
+        findContactByPhoneNumberRequest.setToken(token);
         findContactByPhoneNumberRequest.setPhoneNumber("09123456789");
         FindContactByPhoneNumberResponse janeFindContactByPhoneNumberResponse = userService.findContactByPhoneNumber(findContactByPhoneNumberRequest);
 
@@ -649,22 +1164,69 @@ public class UserServiceImplementationTest {
         assertEquals("jane123", janeFindContactByPhoneNumberResponse.getUsername());
     }
 
+    @Test
+    public void userFindsContactByPhoneNumber_InInternationalFormatTest() {
+        FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
+        findContactByPhoneNumberRequest.setUsername("jane123");
+        findContactByPhoneNumberRequest.setToken(token);
+        findContactByPhoneNumberRequest.setPhoneNumber("+234 912 345 6789");
+        FindContactByPhoneNumberResponse janeFindContactByPhoneNumberResponse = userService.findContactByPhoneNumber(findContactByPhoneNumberRequest);
+
+        assertEquals(1, janeFindContactByPhoneNumberResponse.getContacts().size());
+        assertEquals("jill", janeFindContactByPhoneNumberResponse.getContacts().getFirst().getFirstName());
+        assertEquals("+2349123456789", janeFindContactByPhoneNumberResponse.getContacts().getFirst().getCanonicalPhoneNumber());
+    }
+
+    @Test
+    public void userFindsContactByPhoneNumberSuffixTest() {
+        FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
+        findContactByPhoneNumberRequest.setUsername("jane123");
+        findContactByPhoneNumberRequest.setToken(token);
+        findContactByPhoneNumberRequest.setPhoneNumber("345-6789");
+        findContactByPhoneNumberRequest.setSuffixMatch(true);
+        FindContactByPhoneNumberResponse janeFindContactByPhoneNumberResponse = userService.findContactByPhoneNumber(findContactByPhoneNumberRequest);
+
+        assertEquals(1, janeFindContactByPhoneNumberResponse.getContacts().size());
+        assertEquals("jill", janeFindContactByPhoneNumberResponse.getContacts().getFirst().getFirstName());
+    }
+
+    @Test
+    public void userFindsContactByPhoneNumberSuffix_WithTooFewDigits_ThrowsExceptionTest() {
+        FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
+        findContactByPhoneNumberRequest.setUsername("jane123");
+        findContactByPhoneNumberRequest.setToken(token);
+        findContactByPhoneNumberRequest.setPhoneNumber("6789");
+        findContactByPhoneNumberRequest.setSuffixMatch(true);
+
+        assertThrows(IllegalArgumentException.class, ()-> userService.findContactByPhoneNumber(findContactByPhoneNumberRequest));
+    }
+
     @Test
     public void nonExistentUser_FindsContactByPhoneNumber_ThrowsExceptionTest() {
         FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
         findContactByPhoneNumberRequest.setUsername("jessica123");
         findContactByPhoneNumberRequest.setPhoneNumber("09123456789");
 
-        assertThrows(UserNotFoundException.class, ()-> userService.findContactByPhoneNumber(findContactByPhoneNumberRequest));
+        assertThrows(ProfileLockException.class, ()->userService.findContactByPhoneNumber(findContactByPhoneNumberRequest));
     }
 
     @Test
     public void userFindsContact_WithNonExistentPhoneNumber_ThrowsExceptionTest() {
         FindContactByPhoneNumberRequest findContactByPhoneNumberRequest = new FindContactByPhoneNumberRequest();
         findContactByPhoneNumberRequest.setUsername("jane123");
+        findContactByPhoneNumberRequest.setToken(token);
         findContactByPhoneNumberRequest.setPhoneNumber("06123456789");
 
         assertThrows(ContactNotFoundException.class, ()-> userService.findContactByPhoneNumber(findContactByPhoneNumberRequest));
     }
 
-}
\ No newline at end of file
+    private static <T> T await(CompletableFuture<T> response) {
+        try {
+            return response.join();
+        }
+        catch (CompletionException error) {
+            if (error.getCause() instanceof RuntimeException cause) throw cause;
+            throw error;
+        }
+    }
+}
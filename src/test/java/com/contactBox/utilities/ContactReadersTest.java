@@ -0,0 +1,117 @@
+package com.contactBox.utilities;
+
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.exceptions.InvalidContactRecordException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.contactBox.utilities.ContactReaders.MAX_RECORD_LENGTH;
+import static com.contactBox.utilities.ContactReaders.readContacts;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContactReadersTest {
+
+    @Test
+    public void vCardsAreReadInOrderTest() throws IOException {
+        String vCards = """
+                BEGIN:VCARD
+                VERSION:3.0
+                N:Smith;Jill;;;
+                FN:Jill Smith
+                TEL;TYPE=CELL:+234 912 345 6789
+                TEL;TYPE=HOME:01234567
+                EMAIL:jillsmith@gmail.com
+                ADR;TYPE=HOME:;;1 Broadway;New York City;New York;10001;USA
+                NOTE:always there for me\\, in good
+                  and bad times.
+                END:VCARD
+                BEGIN:VCARD
+                VERSION:2.1
+                FN;CHARSET=UTF-8;ENCODING=QUOTED-PRINTABLE:Ren=C3=A9e Okafor
+                TEL:08123456789
+                END:VCARD
+                """;
+
+        List<CreateContactRequest> contacts = readAll(vCards, ContactFileFormat.VCARD);
+
+        assertEquals(2, contacts.size());
+        assertEquals("Jill", contacts.getFirst().getFirstName());
+        assertEquals("Smith", contacts.getFirst().getLastName());
+        assertEquals("+234 912 345 6789", contacts.getFirst().getPhoneNumber());
+        assertEquals("jillsmith@gmail.com", contacts.getFirst().getEmail());
+        assertEquals("1 Broadway", contacts.getFirst().getStreet());
+        assertEquals("New York City", contacts.getFirst().getCity());
+        assertEquals("USA", contacts.getFirst().getCountry());
+        assertEquals("always there for me, in good and bad times.", contacts.getFirst().getNotes());
+        assertEquals("Renée", contacts.get(1).getFirstName());
+        assertEquals("Okafor", contacts.get(1).getLastName());
+    }
+
+    @Test
+    public void csvRowsAreMappedByHeaderTest() throws IOException {
+        String csv = "\uFEFFFirst Name,Last Name,Phone Number,Email,Notes,Unknown\r\n"
+                + "jill,smith,09123456789,jillsmith@gmail.com,\"always there, \"\"in good\"\"\nand bad times\",x\r\n"
+                + "\r\n"
+                + "jessica,,08123456789\r\n";
+
+        List<CreateContactRequest> contacts = readAll(csv, ContactFileFormat.CSV);
+
+        assertEquals(2, contacts.size());
+        assertEquals("jill", contacts.getFirst().getFirstName());
+        assertEquals("09123456789", contacts.getFirst().getPhoneNumber());
+        assertEquals("always there, \"in good\"\nand bad times", contacts.getFirst().getNotes());
+        assertEquals("jessica", contacts.get(1).getFirstName());
+        assertNull(contacts.get(1).getLastName());
+        assertNull(contacts.get(1).getEmail());
+    }
+
+    @Test
+    public void csvWithoutContactColumns_ThrowsExceptionTest() throws IOException {
+        Iterator<CreateContactRequest> contacts = readContacts(new StringReader("id,created\n1,today\n"), ContactFileFormat.CSV);
+
+        assertThrows(IllegalArgumentException.class, contacts::hasNext);
+    }
+
+    @Test
+    public void vCardLongerThanLimit_IsReportedAndNextVCardIsReadTest() throws IOException {
+        String vCards = "BEGIN:VCARD\nFN:Jill Smith\nNOTE:" + "x".repeat(MAX_RECORD_LENGTH) + "\n " + "y".repeat(MAX_RECORD_LENGTH) + "\nEND:VCARD\n"
+                + "BEGIN:VCARD\nFN:Jessica Okafor\nEND:VCARD\n";
+        Iterator<CreateContactRequest> contacts = readContacts(new StringReader(vCards), ContactFileFormat.VCARD);
+
+        assertTrue(contacts.hasNext());
+        assertThrows(InvalidContactRecordException.class, contacts::next);
+        assertEquals("Jessica", contacts.next().getFirstName());
+        assertFalse(contacts.hasNext());
+    }
+
+    @Test
+    public void csvFieldLongerThanLimit_IsReportedAndNextRowIsReadTest() throws IOException {
+        String csv = "firstName,notes\njill,\"" + "x".repeat(MAX_RECORD_LENGTH) + "\n\"\"" + "\"\njessica,friend\n";
+        Iterator<CreateContactRequest> contacts = readContacts(new StringReader(csv), ContactFileFormat.CSV);
+
+        assertTrue(contacts.hasNext());
+        assertThrows(InvalidContactRecordException.class, contacts::next);
+        assertEquals("jessica", contacts.next().getFirstName());
+        assertFalse(contacts.hasNext());
+    }
+
+    @Test
+    public void csvWithUnterminatedQuote_IsReportedAsOneRecordTest() throws IOException {
+        String csv = "firstName,notes\njill,\"" + "x\n".repeat(MAX_RECORD_LENGTH);
+        Iterator<CreateContactRequest> contacts = readContacts(new StringReader(csv), ContactFileFormat.CSV);
+
+        assertThrows(InvalidContactRecordException.class, contacts::next);
+        assertFalse(contacts.hasNext());
+    }
+
+    private static List<CreateContactRequest> readAll(String input, ContactFileFormat format) throws IOException {
+        List<CreateContactRequest> contacts = new ArrayList<>();
+        readContacts(new StringReader(input), format).forEachRemaining(contacts::add);
+        return contacts;
+    }
+}
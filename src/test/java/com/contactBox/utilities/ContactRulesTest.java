@@ -0,0 +1,63 @@
+package com.contactBox.utilities;
+
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import com.contactBox.dataTransferObjects.requests.UpdateContactRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.contactBox.utilities.ContactRules.CREATE_CONTACT_RULES;
+import static com.contactBox.utilities.ContactRules.UPDATE_CONTACT_RULES;
+import static com.contactBox.utilities.ContactRules.isEmailValid;
+import static com.contactBox.utilities.ContactRules.isPhoneNumberValid;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContactRulesTest {
+
+    @Test
+    public void validRequest_HasNoViolationsTest() {
+        CreateContactRequest createContactRequest = new CreateContactRequest();
+        createContactRequest.setFirstName("  Jessica ");
+        createContactRequest.setPhoneNumber("+234 (803) 123-4567");
+        createContactRequest.setEmail("jessica@gmail.com");
+
+        assertSame(List.of(), CREATE_CONTACT_RULES.validate(createContactRequest));
+        assertDoesNotThrow(()->CREATE_CONTACT_RULES.check(createContactRequest));
+    }
+
+    @Test
+    public void invalidRequest_AllViolationsAreReportedTest() {
+        UpdateContactRequest updateContactRequest = new UpdateContactRequest();
+        updateContactRequest.setLastName("b".repeat(101));
+        updateContactRequest.setPhoneNumber("08123abcdef");
+        updateContactRequest.setEmail("jessica@gmail");
+
+        assertEquals(List.of("Last name cannot be longer than 100 characters. Please enter a valid input.",
+                "Please enter a valid phone number.", "Please enter a valid email address."), UPDATE_CONTACT_RULES.validate(updateContactRequest));
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, ()->UPDATE_CONTACT_RULES.check(updateContactRequest));
+        assertTrue(error.getMessage().startsWith("Last name cannot be longer"));
+    }
+
+    @Test
+    public void phoneNumberFormats_AreValidatedTest() {
+        assertTrue(isPhoneNumberValid("08031234567"));
+        assertTrue(isPhoneNumberValid("0803.123.4567"));
+        assertTrue(isPhoneNumberValid("+234 (803) 123-4567"));
+        assertFalse(isPhoneNumberValid(""));
+        assertFalse(isPhoneNumberValid("+"));
+        assertFalse(isPhoneNumberValid(" - "));
+        assertFalse(isPhoneNumberValid("++2348031234567"));
+        assertFalse(isPhoneNumberValid("0803 123 4567 ext"));
+    }
+
+    @Test
+    public void emailFormats_AreValidatedTest() {
+        assertTrue(isEmailValid("jillsmith@yahoo.com"));
+        assertTrue(isEmailValid(""));
+        assertFalse(isEmailValid("jillsmith"));
+        assertFalse(isEmailValid("@yahoo.com"));
+        assertFalse(isEmailValid("jill@smith@yahoo.com"));
+        assertFalse(isEmailValid("jill smith@yahoo.com"));
+        assertFalse(isEmailValid("jillsmith@yahoo."));
+    }
+}
@@ -0,0 +1,81 @@
+package com.contactBox.utilities;
+
+import com.contactBox.data.models.Contact;
+import com.contactBox.dataTransferObjects.requests.CreateContactRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.contactBox.utilities.ContactReaders.readContacts;
+import static com.contactBox.utilities.ContactWriters.writeContacts;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContactWritersTest {
+
+    @Test
+    public void exportedVCardsCanBeImportedTest() throws IOException {
+        List<CreateContactRequest> contacts = exportAndImport(ContactFileFormat.VCARD);
+
+        assertEquals(2, contacts.size());
+        assertEquals("jill", contacts.getFirst().getFirstName());
+        assertEquals("smith; jr", contacts.getFirst().getLastName());
+        assertEquals("1 broadway", contacts.getFirst().getStreet());
+        assertEquals("new york city", contacts.getFirst().getCity());
+        assertEquals(longNotes(), contacts.getFirst().getNotes());
+        assertEquals("08123456789", contacts.get(1).getPhoneNumber());
+    }
+
+    @Test
+    public void exportedCsvCanBeImportedTest() throws IOException {
+        List<CreateContactRequest> contacts = exportAndImport(ContactFileFormat.CSV);
+
+        assertEquals(2, contacts.size());
+        assertEquals("smith; jr", contacts.getFirst().getLastName());
+        assertEquals("1", contacts.getFirst().getBuildingNumber());
+        assertEquals(longNotes(), contacts.getFirst().getNotes());
+        assertNull(contacts.get(1).getFirstName());
+    }
+
+    @Test
+    public void vCardLinesAreFoldedAtSeventyFiveOctetsTest() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeContacts(Stream.of(jill()), outputStream, ContactFileFormat.VCARD);
+
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+    }
+
+    private static List<CreateContactRequest> exportAndImport(ContactFileFormat format) throws IOException {
+        Contact jessica = new Contact();
+        jessica.setPhoneNumber("08123456789");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeContacts(Stream.of(jill(), jessica), outputStream, format);
+
+        List<CreateContactRequest> contacts = new ArrayList<>();
+        readContacts(new StringReader(outputStream.toString(StandardCharsets.UTF_8)), format).forEachRemaining(contacts::add);
+        return contacts;
+    }
+
+    private static Contact jill() {
+        Contact jill = new Contact();
+        jill.setFirstName("jill");
+        jill.setLastName("smith; jr");
+        jill.setPhoneNumber("09123456789");
+        jill.getAddress().setBuildingNumber("1");
+        jill.getAddress().setStreet("broadway");
+        jill.getAddress().setCity("new york city");
+        jill.setNotes(longNotes());
+        return jill;
+    }
+
+    private static String longNotes() {
+        return "always there for me, in \"good\" and bad times.\nRenée knows ".repeat(4).trim();
+    }
+}
@@ -0,0 +1,44 @@
+package com.contactBox.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static com.contactBox.utilities.PhoneNumbers.suffixOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PhoneNumbersTest {
+
+    private final PhoneNumberCanonicalizer phoneNumberCanonicalizer = new PhoneNumberCanonicalizer(PhoneNumbers.DEFAULT_COUNTRY_CODE);
+
+    @Test
+    public void localAndInternationalFormats_HaveTheSameCanonicalFormTest() {
+        assertEquals("+2348031234567", phoneNumberCanonicalizer.canonicalize("08031234567"));
+        assertEquals("+2348031234567", phoneNumberCanonicalizer.canonicalize("+234 803 123 4567"));
+        assertEquals("+2348031234567", phoneNumberCanonicalizer.canonicalize("00234-803-123-4567"));
+        assertEquals("+2348031234567", phoneNumberCanonicalizer.canonicalize("(+234) 803.123.4567"));
+    }
+
+    @Test
+    public void nationalNumber_UsesTheGivenDefaultCountryCodeTest() {
+        assertEquals("+447911123456", new PhoneNumberCanonicalizer("44").canonicalize("07911 123456"));
+        assertEquals("+2348031234567", new PhoneNumberCanonicalizer("44").canonicalize("+234 803 123 4567"));
+    }
+
+    @Test
+    public void invalidDefaultCountryCode_ThrowsExceptionTest() {
+        assertThrows(IllegalArgumentException.class, ()->new PhoneNumberCanonicalizer("+44"));
+        assertThrows(IllegalArgumentException.class, ()->new PhoneNumberCanonicalizer("0"));
+        assertThrows(IllegalArgumentException.class, ()->new PhoneNumberCanonicalizer(null));
+    }
+
+    @Test
+    public void phoneNumberWithoutDigits_HasNoCanonicalFormTest() {
+        assertNull(phoneNumberCanonicalizer.canonicalize(null));
+        assertNull(phoneNumberCanonicalizer.canonicalize(" - "));
+    }
+
+    @Test
+    public void suffixIsTheLastSevenDigitsTest() {
+        assertEquals("1234567", suffixOf("+234 803 123 4567"));
+        assertNull(suffixOf("12345"));
+    }
+}